@@ -0,0 +1,72 @@
+package com.banking.benchmark;
+
+import com.banking.model.CheckingAccount;
+import com.banking.model.SavingsAccount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Balance arithmetic on the entities themselves. Withdrawals are paired with a deposit of the same
+// amount so the balance (and so the code path) stays the same for the whole run.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("25.00");
+    private static final BigDecimal TOO_MUCH = new BigDecimal("100000.00");
+
+    private SavingsAccount savings;
+    private CheckingAccount checking;
+
+    @Setup
+    public void setUp() {
+        savings = new SavingsAccount("ACC0000000000018", "Bench Holder", "bench@test.com",
+            new BigDecimal("15250.75"), null, new BigDecimal("3.25"));
+        checking = new CheckingAccount("ACC0000000000026", "Bench Holder", "bench@test.com",
+            new BigDecimal("1200.00"));
+    }
+
+    @Benchmark
+    public BigDecimal depositThenWithdrawSavings() {
+        savings.deposit(AMOUNT);
+        savings.withdraw(AMOUNT);
+        return savings.getBalance();
+    }
+
+    @Benchmark
+    public BigDecimal withdrawThenDepositChecking() {
+        checking.withdraw(AMOUNT);
+        checking.deposit(AMOUNT);
+        return checking.getBalance();
+    }
+
+    // The denial message is built with String.format on every rejected withdrawal
+    @Benchmark
+    public String deniedCheckingWithdrawal() {
+        try {
+            checking.withdraw(TOO_MUCH);
+            return null;
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public BigDecimal savingsMonthlyInterest() {
+        return savings.calculateMonthlyInterest();
+    }
+}
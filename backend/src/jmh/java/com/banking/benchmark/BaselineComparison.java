@@ -0,0 +1,79 @@
+package com.banking.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Compares a JMH JSON result against the stored baseline (src/jmh/baseline.json).
+// Times depend on the machine, so they are only reported; bytes allocated per operation
+// (-prof gc, gc.alloc.rate.norm) do not, and growth beyond the threshold fails the build.
+public final class BaselineComparison {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    // Below this, differences are escape-analysis noise rather than a new allocation
+    private static final double ALLOCATION_NOISE_BYTES = 8;
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        File baselineFile = new File(args[0]);
+        File resultFile = new File(args[1]);
+        double thresholdPercent = Double.parseDouble(args[2]);
+        if (!baselineFile.exists()) {
+            System.out.println("No baseline at " + baselineFile + "; copy " + resultFile + " there to create one");
+            return;
+        }
+
+        Map<String, JsonNode> baseline = read(baselineFile);
+        Map<String, JsonNode> result = read(resultFile);
+        int regressions = 0;
+
+        System.out.printf("%-70s %14s %14s %12s %12s%n", "Benchmark", "baseline", "current", "B/op base", "B/op now");
+        for (Map.Entry<String, JsonNode> entry : result.entrySet()) {
+            JsonNode current = entry.getValue();
+            JsonNode previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("%-70s %14s %14.3f (new)%n", entry.getKey(), "-", score(current));
+                continue;
+            }
+            double allocatedBefore = allocation(previous);
+            double allocatedNow = allocation(current);
+            boolean regressed = allocatedNow - allocatedBefore > ALLOCATION_NOISE_BYTES
+                && allocatedNow > allocatedBefore * (1 + thresholdPercent / 100);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %12.1f %12.1f%s%n", entry.getKey(), score(previous),
+                score(current), allocatedBefore, allocatedNow, regressed ? "  ALLOCATION REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) allocate more than " + thresholdPercent
+                + "% over the baseline; update src/jmh/baseline.json only if the increase is intended");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> runs = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            String name = run.path("benchmark").asText();
+            JsonNode params = run.path("params");
+            runs.put(params.isMissingNode() ? name : name + params, run);
+        }
+        return runs;
+    }
+
+    private static double score(JsonNode run) {
+        return run.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double allocation(JsonNode run) {
+        return run.path("secondaryMetrics").path(ALLOCATION).path("score").asDouble();
+    }
+}
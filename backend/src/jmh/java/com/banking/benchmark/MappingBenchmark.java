@@ -0,0 +1,65 @@
+package com.banking.benchmark;
+
+import com.banking.dto.AccountResponse;
+import com.banking.dto.TransactionResponse;
+import com.banking.mapper.AccountMapper;
+import com.banking.mapper.TransactionMapper;
+import com.banking.model.CheckingAccount;
+import com.banking.model.SavingsAccount;
+import com.banking.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Entity to response mapping done on every account read and posting response
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private SavingsAccount savings;
+    private CheckingAccount checking;
+    private Transaction transfer;
+
+    @Setup
+    public void setUp() {
+        savings = new SavingsAccount("ACC0000000000018", "Bench Holder", "bench@test.com", new BigDecimal("1000.00"));
+        savings.setId(1L);
+        checking = new CheckingAccount("ACC0000000000026", "Bench Holder", "bench@test.com", new BigDecimal("250.00"));
+        checking.setId(2L);
+        transfer = Transaction.createTransferOut(savings, new BigDecimal("25.00"),
+            new BigDecimal("1000.00"), new BigDecimal("975.00"), checking.getAccountNumber());
+        transfer.setId(10L);
+        transfer.setReferenceNumber("TXN0000000000000000042");
+        transfer.setTransactionDate(LocalDateTime.of(2024, 11, 15, 10, 30));
+    }
+
+    @Benchmark
+    public AccountResponse savingsAccountResponse() {
+        return AccountMapper.toResponse(savings);
+    }
+
+    @Benchmark
+    public AccountResponse checkingAccountResponse() {
+        return AccountMapper.toResponse(checking);
+    }
+
+    @Benchmark
+    public TransactionResponse transactionResponse() {
+        return TransactionMapper.toResponse(transfer);
+    }
+}
@@ -0,0 +1,65 @@
+package com.banking.benchmark;
+
+import com.banking.model.SavingsAccount;
+import com.banking.model.Transaction;
+import com.banking.numbering.SnowflakeReferenceNumberGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Posting objects built for every money movement: the factory methods and the reference number
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionBenchmark {
+
+    private static final BigDecimal BEFORE = new BigDecimal("1000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("25.00");
+    private static final BigDecimal AFTER = new BigDecimal("975.00");
+
+    private SavingsAccount account;
+    private SnowflakeReferenceNumberGenerator referenceNumbers;
+
+    @Setup
+    public void setUp() {
+        account = new SavingsAccount("ACC0000000000018", "Bench Holder", "bench@test.com", BEFORE);
+        referenceNumbers = new SnowflakeReferenceNumberGenerator(1);
+    }
+
+    @Benchmark
+    public Transaction createDeposit() {
+        return Transaction.createDeposit(account, AMOUNT, BEFORE, AFTER);
+    }
+
+    // Builds the "Transfer to ..." description
+    @Benchmark
+    public Transaction createTransferOut() {
+        return Transaction.createTransferOut(account, AMOUNT, BEFORE, AFTER, "ACC0000000000026");
+    }
+
+    @Benchmark
+    public String referenceNumber() {
+        return referenceNumbers.next();
+    }
+
+    // All threads share one generator, so this shows the cost of CAS retries under contention
+    @Benchmark
+    @Threads(4)
+    public String referenceNumberContended() {
+        return referenceNumbers.next();
+    }
+}
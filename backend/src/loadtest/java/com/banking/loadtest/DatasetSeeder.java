@@ -0,0 +1,275 @@
+package com.banking.loadtest;
+
+import com.banking.model.AccountTableLayout;
+import com.banking.model.CheckingAccount;
+import com.banking.model.SavingsAccount;
+import com.banking.model.TransactionType;
+import com.banking.numbering.AccountNumberGenerator;
+import com.banking.numbering.ReferenceNumbers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Bulk-loads customers, accounts, their transaction history and the matching monthly summaries with
+// JDBC batches, bypassing the entities. A few "corporate" accounts (the lowest ids) carry a large share
+// of the postings and bigger amounts; the rest form a long tail. Every history starts with a deposit
+// and never takes an account below its floor, so balances, summaries and postings agree.
+// Must run against a database no other instance is writing to: ids are assigned from MAX(id) and the
+// pooled sequences are moved past them afterwards.
+class DatasetSeeder {
+
+    static final String EMAIL_PREFIX = "loadtest-";
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    private static final int ACCOUNT_FLUSH = 500;
+    private static final int TRANSACTION_FLUSH = 5_000;
+    private static final int SEQUENCE_ALLOCATION = 50;
+    private static final long SAVINGS_FLOOR_CENTS = SavingsAccount.DEFAULT_MINIMUM_BALANCE.movePointRight(2).longValueExact();
+
+    private static final String INSERT_CUSTOMER = "INSERT INTO customers (first_name, last_name, email, role, " +
+        "is_active, created_at, updated_at) VALUES (?, ?, ?, 'CUSTOMER', TRUE, ?, ?)";
+    private static final String ACCOUNT_COLUMNS = "id, account_number, customer_id, account_holder_name, email, " +
+        "balance, is_active, created_at, updated_at, version";
+    private static final String INSERT_TRANSACTION = "INSERT INTO transactions (id, account_id, transaction_type, " +
+        "amount, balance_before, balance_after, description, transaction_date, reference_number) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUMMARY = "INSERT INTO monthly_account_summary (id, account_id, period, " +
+        "opening_balance, closing_balance, total_deposits, total_withdrawals, total_transfers_in, " +
+        "total_transfers_out, total_interest, total_fees, transaction_count) VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final AccountTableLayout layout;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+
+    private final List<Object[]> accountRows = new ArrayList<>();
+    private final List<Object[]> savingsRows = new ArrayList<>();
+    private final List<Object[]> checkingRows = new ArrayList<>();
+    private final List<Object[]> transactionRows = new ArrayList<>();
+    private final List<Object[]> summaryRows = new ArrayList<>();
+    private long nextTransactionId;
+    private long nextSummaryId;
+    private long postings;
+
+    DatasetSeeder(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+                  AccountNumberGenerator accountNumberGenerator, AccountTableLayout layout, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.layout = layout;
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.randomSeed());
+    }
+
+    void seed() {
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM customers WHERE email LIKE '" + EMAIL_PREFIX + "%'", Integer.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("The database already holds a load-test dataset; " +
+                "run with -Dloadtest.seed=false to reuse it");
+        }
+        long started = System.nanoTime();
+        List<Long> customerIds = insertCustomers();
+
+        long nextAccountId = maxId("accounts") + 1;
+        nextTransactionId = maxId("transactions") + 1;
+        nextSummaryId = maxId("monthly_account_summary") + 1;
+        int[] postingCounts = postingCounts();
+        LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime start = YearMonth.from(end).minusMonths(settings.months() - 1L).atDay(1).atStartOfDay();
+
+        for (int index = 0; index < settings.accounts(); index++) {
+            int customer = index / settings.accountsPerCustomer();
+            boolean checking = index % settings.accountsPerCustomer() == 0;
+            addAccount(nextAccountId++, customerIds.get(customer), customer, checking,
+                index < settings.hotAccounts(), postingCounts[index], start, end);
+            if (accountRows.size() >= ACCOUNT_FLUSH || transactionRows.size() >= TRANSACTION_FLUSH) {
+                flush();
+            }
+        }
+        flush();
+
+        restartSequence("accounts_seq", nextAccountId - 1);
+        restartSequence("transactions_seq", nextTransactionId - 1);
+        restartSequence("monthly_account_summary_seq", nextSummaryId - 1);
+        logger.info("Seeded {} customers, {} accounts and {} transactions in {} ms", customerIds.size(),
+            settings.accounts(), postings, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<Long> insertCustomers() {
+        LocalDateTime now = LocalDateTime.now();
+        int corporate = (settings.hotAccounts() + settings.accountsPerCustomer() - 1) / settings.accountsPerCustomer();
+        List<Object[]> rows = new ArrayList<>(settings.customers());
+        for (int i = 0; i < settings.customers(); i++) {
+            rows.add(new Object[]{i < corporate ? "Corporate" : "Customer", String.valueOf(i), email(i), now, now});
+        }
+        transactionOperations.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_CUSTOMER, rows));
+        // Zero-padded emails sort in insertion order
+        return jdbcTemplate.queryForList("SELECT id FROM customers WHERE email LIKE '" + EMAIL_PREFIX + "%' " +
+            "ORDER BY email", Long.class);
+    }
+
+    // Hot accounts share hotTransactionShare of the postings; the tail varies by +-50% around its mean
+    private int[] postingCounts() {
+        int[] counts = new int[settings.accounts()];
+        int hot = settings.hotAccounts();
+        int cold = settings.accounts() - hot;
+        long hotPostings = hot == 0 ? 0 : Math.round(settings.transactions() * settings.hotTransactionShare());
+        double coldMean = cold == 0 ? 0 : (settings.transactions() - hotPostings) / (double) cold;
+        for (int i = 0; i < counts.length; i++) {
+            double mean = i < hot ? hotPostings / (double) hot : coldMean;
+            counts[i] = Math.max(1, (int) Math.round(mean * (0.5 + random.nextDouble())));
+        }
+        return counts;
+    }
+
+    private void addAccount(long accountId, long customerId, int customer, boolean checking, boolean hot,
+                            int count, LocalDateTime start, LocalDateTime end) {
+        long floorCents = checking ? 0 : SAVINGS_FLOOR_CENTS;
+        long spanSeconds = ChronoUnit.SECONDS.between(start, end);
+        long[] offsets = new long[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = random.nextLong(spanSeconds);
+        }
+        Arrays.sort(offsets);
+
+        long balance = 0;
+        MonthTotals month = null;
+        for (int i = 0; i < count; i++) {
+            LocalDateTime date = start.plusSeconds(offsets[i]);
+            long amount = i == 0 ? floorCents + amountCents(hot) * 4 : amountCents(hot);
+            TransactionType type = i > 0 && random.nextDouble() < 0.45 && balance - amount >= floorCents
+                ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT;
+            long after = type == TransactionType.DEPOSIT ? balance + amount : balance - amount;
+
+            YearMonth period = YearMonth.from(date);
+            if (month == null || !month.period.equals(period)) {
+                addSummary(accountId, month);
+                month = new MonthTotals(period, balance);
+            }
+            month.add(type, amount, after);
+            transactionRows.add(new Object[]{nextTransactionId++, accountId, type.name(), money(amount),
+                money(balance), money(after), type == TransactionType.DEPOSIT ? "Deposit" : "Withdrawal", date,
+                ReferenceNumbers.next()});
+            balance = after;
+        }
+        addSummary(accountId, month);
+        postings += count;
+
+        LocalDateTime createdAt = start.plusSeconds(offsets[0]);
+        LocalDateTime updatedAt = start.plusSeconds(offsets[count - 1]);
+        String holder = (hot ? "Corporate " : "Customer ") + customer;
+        Object[] account = {accountId, accountNumberGenerator.next(), customerId, holder, email(customer),
+            money(balance), true, createdAt, updatedAt, 0L};
+        if (layout == AccountTableLayout.SINGLE_TABLE) {
+            accountRows.add(checking
+                ? append(account, "CHECKING", null, null, CheckingAccount.DEFAULT_OVERDRAFT_LIMIT, CheckingAccount.DEFAULT_MONTHLY_FEE)
+                : append(account, "SAVINGS", SavingsAccount.DEFAULT_MINIMUM_BALANCE, SavingsAccount.DEFAULT_INTEREST_RATE, null, null));
+        } else {
+            accountRows.add(account);
+            if (checking) {
+                checkingRows.add(new Object[]{accountId, CheckingAccount.DEFAULT_OVERDRAFT_LIMIT, CheckingAccount.DEFAULT_MONTHLY_FEE});
+            } else {
+                savingsRows.add(new Object[]{accountId, SavingsAccount.DEFAULT_MINIMUM_BALANCE, SavingsAccount.DEFAULT_INTEREST_RATE});
+            }
+        }
+    }
+
+    // Log-normal amounts: mostly tens of units, occasionally thousands; corporate accounts move ~20x more
+    private long amountCents(boolean hot) {
+        double amount = Math.exp(3.5 + random.nextGaussian()) * (hot ? 20 : 1);
+        return Math.max(100, Math.min(5_000_000, Math.round(amount * 100)));
+    }
+
+    private void addSummary(long accountId, MonthTotals month) {
+        if (month != null) {
+            summaryRows.add(new Object[]{nextSummaryId++, accountId, month.period.toString(), money(month.opening),
+                money(month.closing), money(month.deposits), money(month.withdrawals), month.count});
+        }
+    }
+
+    private void flush() {
+        String accountSql = layout == AccountTableLayout.SINGLE_TABLE
+            ? "INSERT INTO accounts (" + ACCOUNT_COLUMNS + ", account_type, minimum_balance, interest_rate, " +
+                "overdraft_limit, monthly_fee) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            : "INSERT INTO accounts (" + ACCOUNT_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        transactionOperations.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(accountSql, accountRows);
+            jdbcTemplate.batchUpdate("INSERT INTO savings_accounts (id, minimum_balance, interest_rate) " +
+                "VALUES (?, ?, ?)", savingsRows);
+            jdbcTemplate.batchUpdate("INSERT INTO checking_accounts (id, overdraft_limit, monthly_fee) " +
+                "VALUES (?, ?, ?)", checkingRows);
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactionRows);
+            jdbcTemplate.batchUpdate(INSERT_SUMMARY, summaryRows);
+        });
+        accountRows.clear();
+        savingsRows.clear();
+        checkingRows.clear();
+        transactionRows.clear();
+        summaryRows.clear();
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    // The pooled optimizer uses each sequence value as the upper end of its block, so the next block
+    // handed out starts right after the last seeded id
+    private void restartSequence(String sequence, long lastId) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (lastId + SEQUENCE_ALLOCATION));
+    }
+
+    static String email(int customer) {
+        return String.format("%s%07d@bank.test", EMAIL_PREFIX, customer);
+    }
+
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static Object[] append(Object[] row, Object... values) {
+        Object[] combined = Arrays.copyOf(row, row.length + values.length);
+        System.arraycopy(values, 0, combined, row.length, values.length);
+        return combined;
+    }
+
+    private static final class MonthTotals {
+
+        private final YearMonth period;
+        private final long opening;
+        private long closing;
+        private long deposits;
+        private long withdrawals;
+        private int count;
+
+        private MonthTotals(YearMonth period, long opening) {
+            this.period = period;
+            this.opening = opening;
+            this.closing = opening;
+        }
+
+        private void add(TransactionType type, long amount, long balanceAfter) {
+            if (type == TransactionType.DEPOSIT) {
+                deposits += amount;
+            } else {
+                withdrawals += amount;
+            }
+            closing = balanceAfter;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.banking.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-model load: requests are started on a fixed schedule whatever the server's response time, and
+// each latency is measured from the request's scheduled start, so time spent queued behind a slow
+// server is counted instead of hidden (no coordinated omission). Failed and timed-out requests are recorded
+// as well, up to the moment they failed. Requests scheduled during the warmup are sent but not recorded.
+class FixedRateDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(FixedRateDriver.class);
+
+    enum Endpoint {
+        GET_ACCOUNT(30),
+        DEPOSIT(20),
+        TRANSFER(15),
+        ACCOUNT_HISTORY(20),
+        MONTHLY_SUMMARY(10),
+        MONTHLY_REPORT(5);
+
+        private final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    record TargetAccount(long id, String accountNumber) {
+    }
+
+    private record Outcome(ConcurrentHistogram latencyMicros, LongAdder errors) {
+    }
+
+    private final URI baseUri;
+    private final List<TargetAccount> accounts;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final Map<Endpoint, Outcome> outcomes = new EnumMap<>(Endpoint.class);
+    private final int totalWeight;
+
+    FixedRateDriver(URI baseUri, List<TargetAccount> accounts, LoadTestSettings settings) {
+        if (accounts.size() < 2) {
+            throw new IllegalArgumentException("At least two load-test accounts are needed");
+        }
+        this.baseUri = baseUri;
+        this.accounts = accounts;
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.randomSeed() + 1);
+        int weights = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            outcomes.put(endpoint, new Outcome(new ConcurrentHistogram(3), new LongAdder()));
+            weights += endpoint.weight;
+        }
+        this.totalWeight = weights;
+    }
+
+    void run() throws InterruptedException {
+        long warmupNanos = settings.warmup().toNanos();
+        long totalNanos = warmupNanos + settings.duration().toNanos();
+        double periodNanos = 1_000_000_000.0 / settings.rate();
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        logger.info("Driving {} requests/s for {} (+{} warmup) against {}", settings.rate(), settings.duration(),
+            settings.warmup(), baseUri);
+
+        long start = System.nanoTime();
+        for (long i = 0; ; i++) {
+            long offset = (long) (i * periodNanos);
+            if (offset >= totalNanos) {
+                break;
+            }
+            long scheduled = start + offset;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = pickEndpoint();
+            HttpRequest request = buildRequest(endpoint);
+            boolean measured = offset >= warmupNanos;
+            workers.execute(() -> send(endpoint, request, scheduled, measured));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+            logger.warn("Requests still outstanding a minute after the schedule ended were abandoned");
+        }
+    }
+
+    private void send(Endpoint endpoint, HttpRequest request, long scheduled, boolean measured) {
+        Outcome outcome = outcomes.get(endpoint);
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (measured) {
+                outcome.latencyMicros().recordValue((System.nanoTime() - scheduled) / 1_000);
+                if (response.statusCode() >= 300) {
+                    outcome.errors().increment();
+                }
+            }
+        } catch (IOException e) {
+            // Failures and timeouts are usually the slowest requests; leaving them out would hide the tail
+            if (measured) {
+                outcome.latencyMicros().recordValue((System.nanoTime() - scheduled) / 1_000);
+                outcome.errors().increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Endpoint pickEndpoint() {
+        int roll = random.nextInt(totalWeight);
+        for (Endpoint endpoint : Endpoint.values()) {
+            roll -= endpoint.weight;
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private TargetAccount pickAccount() {
+        if (settings.hotAccounts() > 0 && random.nextDouble() < settings.hotTrafficShare()) {
+            return accounts.get(random.nextInt(Math.min(settings.hotAccounts(), accounts.size())));
+        }
+        return accounts.get(random.nextInt(accounts.size()));
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint) {
+        TargetAccount account = pickAccount();
+        YearMonth month = YearMonth.now().minusMonths(random.nextInt(settings.months()));
+        String period = "year=" + month.getYear() + "&month=" + month.getMonthValue();
+        return switch (endpoint) {
+            case GET_ACCOUNT -> get("/api/accounts/" + account.id());
+            case DEPOSIT -> post("/api/accounts/" + account.id() + "/deposit",
+                "{\"amount\":" + (1 + random.nextInt(100)) + ".00}");
+            case TRANSFER -> {
+                TargetAccount target = pickAccount();
+                while (target.id() == account.id()) {
+                    target = accounts.get(random.nextInt(accounts.size()));
+                }
+                yield post("/api/accounts/transfer", "{\"sourceAccountNumber\":\"" + account.accountNumber() +
+                    "\",\"targetAccountNumber\":\"" + target.accountNumber() + "\",\"amount\":1.00}");
+            }
+            case ACCOUNT_HISTORY -> get("/api/transactions/account/" + account.id() + "/cursor?size=20");
+            case MONTHLY_SUMMARY -> get("/api/reports/monthly/" + account.id() + "/summary?" + period);
+            case MONTHLY_REPORT -> get("/api/reports/monthly/" + account.id() + "?" + period);
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    // Prints the summary table and writes one .hgrm percentile file (milliseconds) per endpoint
+    void report(PrintStream out) throws IOException {
+        Path directory = Files.createDirectories(Path.of(settings.outputDirectory()));
+        double seconds = settings.duration().toNanos() / 1e9;
+        Histogram all = new Histogram(3);
+
+        out.printf(Locale.ROOT, "%-16s %9s %7s %10s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Endpoint, Outcome> entry : outcomes.entrySet()) {
+            Histogram histogram = entry.getValue().latencyMicros();
+            all.add(histogram);
+            printRow(out, entry.getKey().name(), histogram, entry.getValue().errors().sum(), seconds);
+            try (PrintStream file = new PrintStream(directory.resolve(entry.getKey().name() + ".hgrm").toFile())) {
+                histogram.outputPercentileDistribution(file, 1000.0);
+            }
+        }
+        long errors = outcomes.values().stream().mapToLong(outcome -> outcome.errors().sum()).sum();
+        printRow(out, "ALL", all, errors, seconds);
+        try (PrintStream file = new PrintStream(directory.resolve("ALL.hgrm").toFile())) {
+            all.outputPercentileDistribution(file, 1000.0);
+        }
+        out.printf(Locale.ROOT, "Target rate %d req/s; percentile files written to %s%n", settings.rate(), directory);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf(Locale.ROOT, "%-16s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(),
+            errors, histogram.getTotalCount() / seconds, millis(histogram, 50), millis(histogram, 99),
+            millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
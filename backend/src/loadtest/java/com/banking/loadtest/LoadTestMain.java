@@ -0,0 +1,62 @@
+package com.banking.loadtest;
+
+import com.banking.BankingSystemApplication;
+import com.banking.model.AccountTableLayout;
+import com.banking.numbering.AccountNumberGenerator;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Boots the application on a random port (PostgreSQL from application.properties, or the in-memory
+// H2 stand-in with -Dspring.profiles.active=loadtest-h2), seeds the dataset and drives the REST API.
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BankingSystemApplication.class)
+                .run(withDefaults(args))) {
+            Environment environment = context.getEnvironment();
+            LoadTestSettings settings = LoadTestSettings.from(environment);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            if (settings.seed()) {
+                new DatasetSeeder(jdbcTemplate, context.getBean(TransactionTemplate.class),
+                    context.getBean(AccountNumberGenerator.class),
+                    context.getBean(AccountTableLayout.class),
+                    settings).seed();
+            }
+            List<FixedRateDriver.TargetAccount> accounts = jdbcTemplate.query(
+                "SELECT id, account_number FROM accounts WHERE email LIKE '" + DatasetSeeder.EMAIL_PREFIX + "%' ORDER BY id",
+                (rs, row) -> new FixedRateDriver.TargetAccount(rs.getLong("id"), rs.getString("account_number")));
+
+            URI baseUri = URI.create("http://localhost:" + environment.getProperty("local.server.port"));
+            FixedRateDriver driver = new FixedRateDriver(baseUri, accounts, settings);
+            driver.run();
+            // Printed so runs with and without spring.threads.virtual.enabled can be compared side by side
+            System.out.printf("Request threads: %s, connection pool: %s%n",
+                Threading.VIRTUAL.isActive(environment)
+                    ? "virtual"
+                    : "platform (max " + environment.getProperty("server.tomcat.threads.max", "200") + ")",
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10"));
+            driver.report(System.out);
+        }
+    }
+
+    // Passed as command-line arguments so they win over application.properties; later arguments still override them
+    private static String[] withDefaults(String[] args) {
+        List<String> arguments = new ArrayList<>(List.of(
+            "--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.com.banking=INFO"));
+        arguments.addAll(Arrays.asList(args));
+        return arguments.toArray(String[]::new);
+    }
+}
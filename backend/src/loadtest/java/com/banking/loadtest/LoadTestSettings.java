@@ -0,0 +1,59 @@
+package com.banking.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+// Everything is read from loadtest.* properties (-Dloadtest.rate=500 on the Maven command line)
+record LoadTestSettings(
+    boolean seed,
+    long randomSeed,
+    int customers,
+    int accountsPerCustomer,
+    int transactions,
+    int months,
+    int hotAccounts,
+    double hotTransactionShare,
+    double hotTrafficShare,
+    int rate,
+    Duration warmup,
+    Duration duration,
+    int concurrency,
+    String outputDirectory) {
+
+    static LoadTestSettings from(Environment environment) {
+        LoadTestSettings settings = new LoadTestSettings(
+            environment.getProperty("loadtest.seed", Boolean.class, true),
+            environment.getProperty("loadtest.random-seed", Long.class, 42L),
+            environment.getProperty("loadtest.customers", Integer.class, 2_000),
+            environment.getProperty("loadtest.accounts-per-customer", Integer.class, 2),
+            environment.getProperty("loadtest.transactions", Integer.class, 200_000),
+            environment.getProperty("loadtest.months", Integer.class, 6),
+            environment.getProperty("loadtest.hot-accounts", Integer.class, 20),
+            environment.getProperty("loadtest.hot-transaction-share", Double.class, 0.4),
+            environment.getProperty("loadtest.hot-traffic-share", Double.class, 0.3),
+            environment.getProperty("loadtest.rate", Integer.class, 200),
+            environment.getProperty("loadtest.warmup", Duration.class, Duration.ofSeconds(10)),
+            environment.getProperty("loadtest.duration", Duration.class, Duration.ofSeconds(60)),
+            environment.getProperty("loadtest.concurrency", Integer.class, 64),
+            environment.getProperty("loadtest.output-directory", "target/loadtest"));
+        settings.validate();
+        return settings;
+    }
+
+    int accounts() {
+        return customers * accountsPerCustomer;
+    }
+
+    private void validate() {
+        if (customers <= 0 || accountsPerCustomer <= 0 || months <= 0 || rate <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("Counts and rates must be positive");
+        }
+        if (hotAccounts < 0 || hotAccounts > accounts()) {
+            throw new IllegalArgumentException("Hot accounts must be between 0 and the number of accounts");
+        }
+        if (hotTransactionShare < 0 || hotTransactionShare > 1 || hotTrafficShare < 0 || hotTrafficShare > 1) {
+            throw new IllegalArgumentException("Shares must be between 0 and 1");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.banking.batch;
+
+// Processes all accounts whose id falls in [startId, endId]; called inside the chunk's transaction
+@FunctionalInterface
+public interface ChunkProcessor {
+
+    ChunkResult process(long startId, long endId);
+}
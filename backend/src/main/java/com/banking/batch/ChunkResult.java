@@ -0,0 +1,7 @@
+package com.banking.batch;
+
+import java.math.BigDecimal;
+
+// Outcome of one chunk of a batch job
+public record ChunkResult(int accountsProcessed, int accountsFailed, BigDecimal totalAmount) {
+}
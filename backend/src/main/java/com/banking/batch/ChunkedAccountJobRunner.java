@@ -0,0 +1,180 @@
+package com.banking.batch;
+
+import com.banking.dto.BatchJobResponse;
+import com.banking.model.BatchChunk;
+import com.banking.repository.BatchChunkRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Splits an account id range into fixed-size chunks and processes them in parallel worker transactions.
+// Every committed chunk is recorded in batch_chunks with its id range, so re-running a job for the same period
+// only processes the ids no committed chunk covers, even if banking.batch.chunk-size changed in between.
+@Component
+public class ChunkedAccountJobRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedAccountJobRunner.class);
+
+    private final BatchChunkRepository batchChunkRepository;
+    private final TransactionOperations transactionOperations;
+    private final ExecutorService batchJobExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+
+    public ChunkedAccountJobRunner(BatchChunkRepository batchChunkRepository,
+                                   TransactionOperations transactionOperations,
+                                   @Qualifier("batchJobExecutor") ExecutorService batchJobExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${banking.batch.chunk-size:1000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.batchChunkRepository = batchChunkRepository;
+        this.transactionOperations = transactionOperations;
+        this.batchJobExecutor = batchJobExecutor;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchJobResponse run(String jobName, YearMonth period, Long minId, Long maxId, ChunkProcessor processor) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        String periodKey = period.toString();
+
+        BatchJobResponse response = new BatchJobResponse();
+        response.setJobName(jobName);
+        response.setPeriod(period);
+        response.setStartedAt(startedAt);
+        response.setTotalAmount(BigDecimal.ZERO);
+
+        if (minId == null || maxId == null) {
+            logger.info("No accounts to process for {} {}", jobName, periodKey);
+            return response;
+        }
+
+        List<BatchChunk> completed = batchChunkRepository.findCompletedChunks(jobName, periodKey);
+        List<Future<ChunkResult>> futures = new ArrayList<>();
+        int totalChunks = 0;
+        int skippedChunks = 0;
+
+        // Chunks are aligned to multiples of the chunk size so boundaries are stable across restarts
+        for (long start = Math.floorDiv(minId, chunkSize) * (long) chunkSize; start <= maxId; start += chunkSize) {
+            List<long[]> pending = uncoveredRanges(start, start + chunkSize - 1, completed);
+            if (pending.isEmpty()) {
+                totalChunks++;
+                skippedChunks++;
+                continue;
+            }
+            // Parts already committed under another chunk size are left out; each remaining gap is its own chunk
+            for (long[] range : pending) {
+                totalChunks++;
+                futures.add(batchJobExecutor.submit(
+                    () -> processChunk(jobName, periodKey, range[0], range[1], processor)));
+            }
+        }
+
+        int processedChunks = 0;
+        int failedChunks = 0;
+        long accountsProcessed = 0;
+        long accountsFailed = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        for (Future<ChunkResult> future : futures) {
+            try {
+                ChunkResult result = future.get();
+                processedChunks++;
+                accountsProcessed += result.accountsProcessed();
+                accountsFailed += result.accountsFailed();
+                totalAmount = totalAmount.add(result.totalAmount());
+            } catch (ExecutionException e) {
+                failedChunks++;
+                logger.error("Chunk of {} {} failed and will be retried on the next run: {}",
+                    jobName, periodKey, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("Interrupted while running " + jobName, e);
+            }
+        }
+
+        response.setTotalChunks(totalChunks);
+        response.setProcessedChunks(processedChunks);
+        response.setSkippedChunks(skippedChunks);
+        response.setFailedChunks(failedChunks);
+        response.setAccountsProcessed(accountsProcessed);
+        response.setAccountsFailed(accountsFailed);
+        response.setTotalAmount(totalAmount);
+        response.setDurationMillis((System.nanoTime() - startNanos) / 1_000_000);
+        recordMetrics(jobName, response, System.nanoTime() - startNanos);
+
+        logger.info("Completed {} for {}: {} chunks processed, {} skipped, {} failed, {} accounts, total {}",
+            jobName, periodKey, processedChunks, skippedChunks, failedChunks, accountsProcessed, totalAmount);
+        return response;
+    }
+
+    // Parts of [rangeStart, rangeEnd] not covered by the committed chunks, which are sorted by range start
+    static List<long[]> uncoveredRanges(long rangeStart, long rangeEnd, List<BatchChunk> completed) {
+        List<long[]> uncovered = new ArrayList<>();
+        long next = rangeStart;
+        for (BatchChunk chunk : completed) {
+            if (next > rangeEnd || chunk.getRangeStart() > rangeEnd) {
+                break;
+            }
+            if (chunk.getRangeEnd() < next) {
+                continue;
+            }
+            if (chunk.getRangeStart() > next) {
+                uncovered.add(new long[] {next, chunk.getRangeStart() - 1});
+            }
+            next = chunk.getRangeEnd() + 1;
+        }
+        if (next <= rangeEnd) {
+            uncovered.add(new long[] {next, rangeEnd});
+        }
+        return uncovered;
+    }
+
+    private void recordMetrics(String jobName, BatchJobResponse response, long durationNanos) {
+        meterRegistry.timer("banking.batch.duration", "job", jobName)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("banking.batch.chunks.processed", "job", jobName).increment(response.getProcessedChunks());
+        meterRegistry.counter("banking.batch.chunks.failed", "job", jobName).increment(response.getFailedChunks());
+        meterRegistry.counter("banking.batch.accounts.processed", "job", jobName).increment(response.getAccountsProcessed());
+        meterRegistry.counter("banking.batch.accounts.failed", "job", jobName).increment(response.getAccountsFailed());
+    }
+
+    private ChunkResult processChunk(String jobName, String periodKey, long rangeStart, long rangeEnd,
+                                     ChunkProcessor processor) {
+        return transactionOperations.execute(status -> {
+            ChunkResult result = processor.process(rangeStart, rangeEnd);
+            // Checked after the processor has locked its accounts, so an overlapping chunk a concurrent run
+            // committed meanwhile is visible here and this one rolls back instead of posting twice
+            if (batchChunkRepository.existsOverlappingChunk(jobName, periodKey, rangeStart, rangeEnd)) {
+                throw new IllegalStateException(
+                    "Accounts " + rangeStart + "-" + rangeEnd + " were already processed by another run");
+            }
+
+            BatchChunk chunk = new BatchChunk(jobName, periodKey, rangeStart, rangeEnd);
+            chunk.setAccountsProcessed(result.accountsProcessed());
+            chunk.setAccountsFailed(result.accountsFailed());
+            chunk.setTotalAmount(result.totalAmount());
+            // A concurrent run inserting the same chunk before either commits trips the unique key instead
+            batchChunkRepository.save(chunk);
+            return result;
+        });
+    }
+}
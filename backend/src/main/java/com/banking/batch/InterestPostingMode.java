@@ -0,0 +1,8 @@
+package com.banking.batch;
+
+public enum InterestPostingMode {
+    // Load each savings account, apply SavingsAccount.applyMonthlyInterest semantics in Java
+    ENTITY,
+    // Compute and post interest in SQL, one INSERT ... SELECT and one UPDATE per chunk
+    SET_BASED
+}
@@ -0,0 +1,143 @@
+package com.banking.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Keeps the range-partitioned transactions table (db/migration/postgresql/004) ready for new postings:
+// monthly partitions are created ahead of time so inserts never land in the default partition,
+// and with archiving enabled, partitions older than the retention are detached into an archive schema.
+@Component
+@ConditionalOnProperty(name = "banking.partitioning.enabled", havingValue = "true")
+public class TransactionPartitionMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionPartitionMaintenance.class);
+
+    private static final String PARENT_TABLE = "transactions";
+    private static final String DEFAULT_PARTITION = "transactions_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("transactions_p(\\d{4})_(\\d{2})");
+    // Schema names are concatenated into DDL, so only plain identifiers are accepted
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final int monthsAhead;
+    private final boolean archiveEnabled;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    public TransactionPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                           TransactionOperations transactionOperations,
+                                           @Value("${banking.partitioning.months-ahead:3}") int monthsAhead,
+                                           @Value("${banking.partitioning.archive.enabled:false}") boolean archiveEnabled,
+                                           @Value("${banking.partitioning.archive.retention-months:24}") int retentionMonths,
+                                           @Value("${banking.partitioning.archive.schema:banking_archive}") String archiveSchema) {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException("Months ahead must not be negative");
+        }
+        if (retentionMonths <= 0) {
+            throw new IllegalArgumentException("Retention months must be positive");
+        }
+        if (!SCHEMA_NAME.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("Invalid archive schema name: " + archiveSchema);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.monthsAhead = monthsAhead;
+        this.archiveEnabled = archiveEnabled;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    // Runs once at startup as well, so a fresh deployment never waits for the first nightly run
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${banking.partitioning.cron:0 30 1 * * *}")
+    public void maintain() {
+        maintain(YearMonth.now());
+    }
+
+    void maintain(YearMonth currentMonth) {
+        createUpcomingPartitions(currentMonth);
+        if (archiveEnabled) {
+            archiveColdPartitions(currentMonth);
+        }
+        warnIfDefaultPartitionUsed();
+    }
+
+    private void createUpcomingPartitions(YearMonth currentMonth) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            String partition = partitionName(month);
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition +
+                    " PARTITION OF " + PARENT_TABLE +
+                    " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            } catch (DataAccessException e) {
+                // Typically rows for that month already sit in the default partition and must be moved by hand
+                logger.error("Could not create partition {}", partition, e);
+            }
+        }
+    }
+
+    private void archiveColdPartitions(YearMonth currentMonth) {
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        List<String> coldPartitions = new ArrayList<>();
+        for (String partition : attachedPartitions()) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (matcher.matches()
+                    && YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+                        .isBefore(oldestKept)) {
+                coldPartitions.add(partition);
+            }
+        }
+        if (coldPartitions.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        for (String partition : coldPartitions) {
+            // Detach and move together, so a failure never leaves a detached table in the live schema
+            transactionOperations.executeWithoutResult(status -> {
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+            });
+            logger.info("Archived partition {} to schema {}", partition, archiveSchema);
+        }
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = '" + PARENT_TABLE + "'::regclass ORDER BY c.relname",
+            String.class);
+    }
+
+    private void warnIfDefaultPartitionUsed() {
+        Boolean used = jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + ")", Boolean.class);
+        if (Boolean.TRUE.equals(used)) {
+            logger.warn("Default partition {} contains rows; queries on those dates cannot be pruned",
+                DEFAULT_PARTITION);
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_p" + month.format(PARTITION_SUFFIX);
+    }
+}
@@ -0,0 +1,89 @@
+package com.banking.cache;
+
+import com.banking.repository.AccountNumberView;
+import com.banking.repository.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// In-memory account number -> id index. Account numbers never change and accounts are never deleted,
+// so entries never go stale and need no eviction. Warmed at startup, extended when an account is created;
+// a miss (e.g. an account created by another instance) falls back to the id-only query and is remembered.
+@Component
+public class AccountNumberIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountNumberIndex.class);
+
+    private final AccountRepository accountRepository;
+    private final TransactionOperations transactionOperations;
+    private final Map<String, Long> idsByAccountNumber = new ConcurrentHashMap<>();
+
+    public AccountNumberIndex(AccountRepository accountRepository, TransactionOperations transactionOperations) {
+        this.accountRepository = accountRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startNanos = System.nanoTime();
+        transactionOperations.executeWithoutResult(status -> {
+            try (Stream<AccountNumberView> accounts = accountRepository.streamAccountNumbers()) {
+                accounts.forEach(account -> idsByAccountNumber.putIfAbsent(account.getAccountNumber(), account.getId()));
+            }
+        });
+        logger.info("Indexed {} account numbers in {} ms",
+            idsByAccountNumber.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    // Callers resolve numbers before taking account locks, outside any transaction. The fallback queries run
+    // in their own transaction so their connection is returned before the caller waits for a lock.
+    public Optional<Long> findId(String accountNumber) {
+        Long id = idsByAccountNumber.get(accountNumber);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        Optional<Long> loaded = transactionOperations.execute(status -> accountRepository.findIdByAccountNumber(accountNumber));
+        loaded.ifPresent(accountId -> idsByAccountNumber.putIfAbsent(accountNumber, accountId));
+        return loaded;
+    }
+
+    // Unknown numbers are left out of the result; misses are resolved with one IN query
+    public Map<String, Long> findIds(Collection<String> accountNumbers) {
+        Map<String, Long> ids = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String accountNumber : accountNumbers) {
+            Long id = idsByAccountNumber.get(accountNumber);
+            if (id != null) {
+                ids.put(accountNumber, id);
+            } else {
+                missing.add(accountNumber);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<AccountNumberView> loaded = transactionOperations.execute(
+                status -> accountRepository.findIdsByAccountNumberIn(missing));
+            for (AccountNumberView account : loaded) {
+                ids.put(account.getAccountNumber(), account.getId());
+                idsByAccountNumber.putIfAbsent(account.getAccountNumber(), account.getId());
+            }
+        }
+        return ids;
+    }
+
+    // A rolled-back creation must not leave a number behind that resolves to a missing id
+    public void registerAfterCommit(String accountNumber, Long id) {
+        AfterCommit.run(() -> idsByAccountNumber.putIfAbsent(accountNumber, id));
+    }
+}
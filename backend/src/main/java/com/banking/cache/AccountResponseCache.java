@@ -0,0 +1,70 @@
+package com.banking.cache;
+
+import com.banking.dto.AccountResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// Read-through cache of AccountResponse by account id (numbers are resolved through AccountNumberIndex).
+// Every balance or status change evicts its accounts once its transaction commits. An eviction also drops a
+// load that is still running for the same id, so a pre-commit value can never be stored after it.
+// Eviction is local to this instance; the expiry bounds how stale another instance's writes can appear.
+// Loads run on the calling thread outside the cache's map locks: a synchronous Caffeine loader would run the
+// database read inside ConcurrentHashMap.compute and pin a virtual thread to its carrier for the whole query.
+@Component
+public class AccountResponseCache {
+
+    private final AsyncCache<Long, AccountResponse> accountsById;
+
+    public AccountResponseCache(MeterRegistry meterRegistry,
+                                @Value("${banking.cache.accounts.max-size:10000}") long maxSize,
+                                @Value("${banking.cache.accounts.expire-after-write:60s}") Duration expireAfterWrite) {
+        this.accountsById = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, accountsById, "accounts");
+    }
+
+    // The loader may throw (e.g. AccountNotFoundException); nothing is cached then
+    public AccountResponse getById(Long id, Function<Long, AccountResponse> loader) {
+        CompletableFuture<AccountResponse> created = new CompletableFuture<>();
+        CompletableFuture<AccountResponse> future = accountsById.get(id, (key, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(id));
+            } catch (RuntimeException | Error ex) {
+                // Caffeine removes the failed entry; concurrent readers of the same id get the same exception
+                created.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public void evictAfterCommit(Collection<Long> ids) {
+        AfterCommit.run(() -> accountsById.synchronous().invalidateAll(ids));
+    }
+
+    // Batch chunks only know their id range
+    public void evictRangeAfterCommit(long startId, long endId) {
+        AfterCommit.run(() -> accountsById.asMap().keySet().removeIf(id -> id >= startId && id <= endId));
+    }
+}
@@ -0,0 +1,77 @@
+package com.banking.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Striped in-process locks keyed by account id.
+// Operations on different accounts only contend when their ids share a stripe.
+@Component
+public class AccountLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public AccountLockManager(@Value("${banking.locking.stripes:1024}") int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public <T> T executeLocked(Long accountId, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeIndex(accountId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Stripes are always acquired in ascending index order, so two callers
+    // locking the same accounts in a different order cannot deadlock.
+    public <T> T executeLocked(Collection<Long> accountIds, Supplier<T> action) {
+        int[] indexes = accountIds.stream()
+            .mapToInt(this::stripeIndex)
+            .distinct()
+            .sorted()
+            .toArray();
+
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                acquired++;
+            }
+            return action.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    int stripeIndex(Long accountId) {
+        if (accountId == null) {
+            throw new IllegalArgumentException("Account id cannot be null");
+        }
+        int hash = Long.hashCode(accountId);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,8 @@
+package com.banking.concurrency;
+
+public enum ConcurrencyMode {
+    // Striped locks plus SELECT ... FOR UPDATE for the whole transaction
+    PESSIMISTIC,
+    // Version check on commit, retried with jittered backoff on conflict
+    OPTIMISTIC
+}
@@ -0,0 +1,131 @@
+package com.banking.concurrency;
+
+import com.banking.model.MonthlyAccountSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Runs a balance-changing unit of work in its own transaction under the configured concurrency mode.
+@Component
+public class MoneyMovementExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(MoneyMovementExecutor.class);
+
+    private final ConcurrencyMode mode;
+    private final AccountLockManager accountLockManager;
+    private final TransactionOperations transactionOperations;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public MoneyMovementExecutor(@Value("${banking.concurrency.mode:pessimistic}") ConcurrencyMode mode,
+                                 AccountLockManager accountLockManager,
+                                 TransactionOperations transactionOperations,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${banking.concurrency.optimistic.max-attempts:5}") int maxAttempts,
+                                 @Value("${banking.concurrency.optimistic.initial-backoff-ms:5}") long initialBackoffMillis,
+                                 @Value("${banking.concurrency.optimistic.max-backoff-ms:100}") long maxBackoffMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1");
+        }
+        this.mode = mode;
+        this.accountLockManager = accountLockManager;
+        this.transactionOperations = transactionOperations;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public <T> T execute(String operation, Collection<Long> accountIds, Supplier<T> work) {
+        if (mode == ConcurrencyMode.PESSIMISTIC) {
+            // Lock is taken outside the transaction so it is held until commit
+            return accountLockManager.executeLocked(accountIds,
+                () -> transactionOperations.execute(status -> work.get()));
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Joined an outer transaction; a conflict marks it rollback-only, so retrying is pointless
+            return transactionOperations.execute(status -> work.get());
+        }
+        return executeWithRetry(operation, accountIds, work);
+    }
+
+    public boolean isPessimistic() {
+        return mode == ConcurrencyMode.PESSIMISTIC;
+    }
+
+    public ConcurrencyMode getMode() {
+        return mode;
+    }
+
+    private <T> T executeWithRetry(String operation, Collection<Long> accountIds, Supplier<T> work) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return transactionOperations.execute(status -> work.get());
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("banking.account.optimistic.exhausted", "operation", operation).increment();
+                    logger.warn("Giving up {} on accounts {} after {} optimistic conflicts",
+                        operation, accountIds, attempt);
+                    throw e;
+                }
+                meterRegistry.counter("banking.account.optimistic.retries", "operation", operation).increment();
+                logger.debug("Optimistic conflict during {} on accounts {}, attempt {}",
+                    operation, accountIds, attempt);
+                backOff(operation, attempt);
+                attempt++;
+            }
+        }
+    }
+
+    // Besides version checks, a unique violation on a row that concurrent transactions may both insert first
+    // (the month's summary row) is a lost race: a retry finds the row and updates it instead
+    static boolean isConflict(RuntimeException e) {
+        if (e instanceof OptimisticLockingFailureException || e instanceof OptimisticLockException) {
+            return true;
+        }
+        if (!(e instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT)
+                        .contains(MonthlyAccountSummary.ACCOUNT_PERIOD_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Full jitter: sleep a random time up to the capped exponential delay
+    private void backOff(String operation, int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry " + operation, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.banking.config;
+
+import com.banking.model.Account;
+import com.banking.model.AccountTableLayout;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AccountLayoutConfig {
+
+    // Read from the mapping Hibernate built (the annotations, or orm-single-table.xml under the single-table
+    // profile), so native SQL always targets the tables the entities are mapped to
+    @Bean
+    public AccountTableLayout accountTableLayout(EntityManagerFactory entityManagerFactory) {
+        EntityPersister persister = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getMappingMetamodel()
+            .getEntityDescriptor(Account.class);
+        if (persister instanceof SingleTableEntityPersister) {
+            return AccountTableLayout.SINGLE_TABLE;
+        }
+        if (persister instanceof JoinedSubclassEntityPersister) {
+            return AccountTableLayout.JOINED;
+        }
+        throw new IllegalStateException("Unsupported account inheritance mapping: " + persister.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,29 @@
+package com.banking.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+public class BatchConfig {
+
+    // Worker pool for chunked month-end jobs; each chunk runs in its own transaction. With
+    // spring.threads.virtual.enabled on Java 21 the workers are virtual threads, but the pool stays
+    // fixed-size because banking.batch.parallelism is what bounds the connections the jobs hold.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService batchJobExecutor(@Value("${banking.batch.parallelism:4}") int parallelism,
+                                            Environment environment) {
+        ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+            ? new VirtualThreadTaskExecutor("batch-").getVirtualThreadFactory()
+            : new CustomizableThreadFactory("batch-");
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+}
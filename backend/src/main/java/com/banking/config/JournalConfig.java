@@ -0,0 +1,30 @@
+package com.banking.config;
+
+import com.banking.concurrency.ConcurrencyMode;
+import com.banking.journal.TransactionJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "banking.postings.mode", havingValue = "journal")
+public class JournalConfig {
+
+    // Local to this instance: the directory must survive restarts, and no two instances may share it.
+    // Replay tells committed from lost in-doubt units by the balance that followed them, which only works while
+    // the account lock is held from the append until the commit; optimistic writers can journal two units with
+    // the same starting balance, so that combination is refused.
+    @Bean(destroyMethod = "close")
+    public TransactionJournal transactionJournal(@Value("${banking.postings.journal.directory:journal}") Path directory,
+                                                 @Value("${banking.postings.journal.segment-size:64MB}") DataSize segmentSize,
+                                                 @Value("${banking.concurrency.mode:pessimistic}") ConcurrencyMode concurrencyMode) {
+        if (concurrencyMode != ConcurrencyMode.PESSIMISTIC) {
+            throw new IllegalStateException("banking.postings.mode=journal requires banking.concurrency.mode=pessimistic");
+        }
+        return new TransactionJournal(directory, Math.toIntExact(segmentSize.toBytes()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.banking.config;
+
+import com.banking.numbering.ReferenceNumberGenerator;
+import com.banking.numbering.ReferenceNumbers;
+import com.banking.numbering.SnowflakeReferenceNumberGenerator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NumberingConfig {
+
+    // Every instance writing to the same database needs its own node id. With
+    // banking.reference.generator=custom the application supplies its own ReferenceNumberGenerator bean instead
+    @Bean
+    @ConditionalOnProperty(name = "banking.reference.generator", havingValue = "snowflake", matchIfMissing = true)
+    public ReferenceNumberGenerator referenceNumberGenerator(@Value("${banking.reference.node-id:0}") int nodeId) {
+        return new SnowflakeReferenceNumberGenerator(nodeId);
+    }
+
+    @Bean
+    public SmartInitializingSingleton referenceNumberInstaller(ReferenceNumberGenerator referenceNumberGenerator) {
+        return () -> ReferenceNumbers.install(referenceNumberGenerator);
+    }
+}
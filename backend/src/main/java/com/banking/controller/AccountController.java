@@ -81,6 +81,13 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/transfer/batch")
+    public ResponseEntity<BatchTransferResponse> transferBatch(
+            @Valid @RequestBody BatchTransferRequest request) {
+        BatchTransferResponse response = accountService.transferBatch(request.getTransfers());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}/deactivate")
     public ResponseEntity<AccountResponse> deactivateAccount(@PathVariable Long id) {
         AccountResponse response = accountService.deactivateAccount(id);
@@ -3,13 +3,18 @@ package com.banking.controller;
 import com.banking.dto.AccountResponse;
 import com.banking.dto.CustomerResponse;
 import com.banking.dto.TransactionResponse;
+import com.banking.export.ExportFormat;
 import com.banking.service.AccountService;
 import com.banking.service.CustomerService;
+import com.banking.service.TransactionExportService;
 import com.banking.service.TransactionService;
 import lombok.AllArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,6 +28,7 @@ public class AdminController {
     private final CustomerService customerService;
     private final AccountService accountService;
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
 
     // Tüm müşterileri getirme
     @GetMapping("/customers")
@@ -73,6 +79,19 @@ public class AdminController {
         return ResponseEntity.ok(transactionService.getTransactionsByCustomerId(customerId));
     }
 
+    // Müşterinin tüm işlemlerini akış halinde dışa aktarma (NDJSON veya CSV)
+    @GetMapping("/customers/{customerId}/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportCustomerTransactions(
+            @PathVariable Long customerId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = transactionExportService.exportCustomerTransactions(customerId, format);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"customer-" + customerId + "-transactions." + format.getFileExtension() + "\"")
+            .body(body);
+    }
+
     // İşlem referans numarasıyla getirme
     @GetMapping("/transactions/{referenceNumber}")
     public ResponseEntity<TransactionResponse> getTransactionByReference(@PathVariable String referenceNumber) {
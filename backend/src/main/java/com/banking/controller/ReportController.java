@@ -1,14 +1,14 @@
 package com.banking.controller;
 
+import com.banking.dto.BatchJobResponse;
 import com.banking.dto.InterestCalculationResponse;
 import com.banking.dto.MonthlyReportResponse;
+import com.banking.service.FeeService;
 import com.banking.service.InterestService;
 import com.banking.service.ReportService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 // Report and interest endpoints
 @RestController
 @RequestMapping("/api/reports")
@@ -17,10 +17,12 @@ public class ReportController {
 
     private final ReportService reportService;
     private final InterestService interestService;
+    private final FeeService feeService;
 
-    public ReportController(ReportService reportService, InterestService interestService) {
+    public ReportController(ReportService reportService, InterestService interestService, FeeService feeService) {
         this.reportService = reportService;
         this.interestService = interestService;
+        this.feeService = feeService;
     }
 
     // Get monthly report by account ID
@@ -33,6 +35,16 @@ public class ReportController {
         return ResponseEntity.ok(report);
     }
 
+    // Get monthly totals without the transaction list
+    @GetMapping("/monthly/{accountId}/summary")
+    public ResponseEntity<MonthlyReportResponse> getMonthlySummary(
+            @PathVariable Long accountId,
+            @RequestParam int year,
+            @RequestParam int month) {
+        MonthlyReportResponse report = reportService.generateMonthlySummary(accountId, year, month);
+        return ResponseEntity.ok(report);
+    }
+
     // Get monthly report by account number
     @GetMapping("/monthly/account/{accountNumber}")
     public ResponseEntity<MonthlyReportResponse> getMonthlyReportByAccountNumber(
@@ -60,8 +72,15 @@ public class ReportController {
 
     // Apply interest to all savings accounts
     @PostMapping("/interest/apply-all")
-    public ResponseEntity<List<InterestCalculationResponse>> applyInterestToAllAccounts() {
-        List<InterestCalculationResponse> results = interestService.triggerInterestApplication();
-        return ResponseEntity.ok(results);
+    public ResponseEntity<BatchJobResponse> applyInterestToAllAccounts() {
+        BatchJobResponse result = interestService.triggerInterestApplication();
+        return ResponseEntity.ok(result);
+    }
+
+    // Charge monthly fees to all checking accounts
+    @PostMapping("/fees/apply-all")
+    public ResponseEntity<BatchJobResponse> applyFeesToAllAccounts() {
+        BatchJobResponse result = feeService.triggerFeeApplication();
+        return ResponseEntity.ok(result);
     }
 }
@@ -1,13 +1,19 @@
 package com.banking.controller;
 
+import com.banking.dto.CursorPage;
 import com.banking.dto.TransactionResponse;
+import com.banking.export.ExportFormat;
 import com.banking.model.TransactionType;
+import com.banking.service.TransactionExportService;
 import com.banking.service.TransactionService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,9 +25,12 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
 
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService,
+                                 TransactionExportService transactionExportService) {
         this.transactionService = transactionService;
+        this.transactionExportService = transactionExportService;
     }
 
     // Get all transactions for an account
@@ -32,6 +41,19 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
 
+    // Stream the full transaction history as NDJSON or CSV
+    @GetMapping("/account/{accountId}/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactionsByAccount(
+            @PathVariable Long accountId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = transactionExportService.exportAccountTransactions(accountId, format);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"account-" + accountId + "-transactions." + format.getFileExtension() + "\"")
+            .body(body);
+    }
+
     // Get paginated transactions
     @GetMapping("/account/{accountId}/paged")
     public ResponseEntity<Page<TransactionResponse>> getTransactionsByAccountPaged(
@@ -41,6 +63,26 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
 
+    // Get transactions page by page with a continuation token (no total count)
+    @GetMapping("/account/{accountId}/cursor")
+    public ResponseEntity<CursorPage<TransactionResponse>> getTransactionsByAccountCursor(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<TransactionResponse> page = transactionService.getTransactionsByAccountId(accountId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    // Get a customer's transactions across all accounts with a continuation token
+    @GetMapping("/customer/{customerId}/cursor")
+    public ResponseEntity<CursorPage<TransactionResponse>> getTransactionsByCustomerCursor(
+            @PathVariable Long customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<TransactionResponse> page = transactionService.getTransactionsByCustomerId(customerId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     // Get transactions by date range
     @GetMapping("/account/{accountId}/range")
     public ResponseEntity<List<TransactionResponse>> getTransactionsByDateRange(
@@ -0,0 +1,27 @@
+package com.banking.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchJobResponse {
+
+    private String jobName;
+    private YearMonth period;
+    private int totalChunks;
+    private int processedChunks;
+    private int skippedChunks;
+    private int failedChunks;
+    private long accountsProcessed;
+    private long accountsFailed;
+    private BigDecimal totalAmount;
+    private LocalDateTime startedAt;
+    private long durationMillis;
+}
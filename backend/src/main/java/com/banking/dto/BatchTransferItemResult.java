@@ -0,0 +1,21 @@
+package com.banking.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchTransferItemResult {
+
+    private int index;
+    private String sourceAccountNumber;
+    private String targetAccountNumber;
+    private BigDecimal amount;
+    private boolean success;
+    private String referenceNumber;
+    private String errorMessage;
+}
@@ -0,0 +1,18 @@
+package com.banking.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchTransferResponse {
+
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private List<BatchTransferItemResult> results;
+}
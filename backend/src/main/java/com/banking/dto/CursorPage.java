@@ -0,0 +1,19 @@
+package com.banking.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// One page of a keyset-paginated list; pass nextCursor back to continue after the last item
+@Getter
+@Setter
+@NoArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor;
+}
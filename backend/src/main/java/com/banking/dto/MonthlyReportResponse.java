@@ -1,5 +1,6 @@
 package com.banking.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -27,6 +28,8 @@ public class MonthlyReportResponse {
     private BigDecimal totalInterestEarned;
     private BigDecimal totalFeesCharged;
     private int transactionCount;
+    // Left null by the summary report, which does not load the transactions
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<TransactionResponse> transactions;
 
     public BigDecimal getNetChange() {
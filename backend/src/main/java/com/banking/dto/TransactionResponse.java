@@ -25,4 +25,22 @@ public class TransactionResponse {
     private String relatedAccountNumber;
     private LocalDateTime transactionDate;
     private boolean credit;
+
+    // Used by the constructor expressions in TransactionRepository, so lists are read in a single query
+    public TransactionResponse(Long id, String referenceNumber, String accountNumber, TransactionType type,
+                               BigDecimal amount, BigDecimal balanceBefore, BigDecimal balanceAfter,
+                               String description, String relatedAccountNumber, LocalDateTime transactionDate) {
+        this.id = id;
+        this.referenceNumber = referenceNumber;
+        this.accountNumber = accountNumber;
+        this.type = type;
+        this.typeDisplayName = type.getDisplayName();
+        this.amount = amount;
+        this.balanceBefore = balanceBefore;
+        this.balanceAfter = balanceAfter;
+        this.description = description;
+        this.relatedAccountNumber = relatedAccountNumber;
+        this.transactionDate = transactionDate;
+        this.credit = type.isCredit();
+    }
 }
@@ -0,0 +1,25 @@
+package com.banking.journal;
+
+import com.banking.model.Transaction;
+import com.banking.repository.TransactionRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Inserts the rows in the caller's transaction
+@Component
+@ConditionalOnProperty(name = "banking.postings.mode", havingValue = "direct", matchIfMissing = true)
+public class DirectPostingWriter implements PostingWriter {
+
+    private final TransactionRepository transactionRepository;
+
+    public DirectPostingWriter(TransactionRepository transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    @Override
+    public void write(List<Transaction> postings) {
+        transactionRepository.saveAll(postings);
+    }
+}
@@ -0,0 +1,258 @@
+package com.banking.journal;
+
+import com.banking.model.Account;
+import com.banking.model.Transaction;
+import com.banking.repository.AccountRepository;
+import com.banking.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Background writer of the write-behind journal: inserts committed units into the transactions table in
+// large batches and moves the journal checkpoint past them. On startup it first replays whatever the last
+// run left after the checkpoint. Inserts skip reference numbers already in the table, so a unit that was
+// inserted just before a crash is not inserted twice. It starts before and stops after the web server,
+// so no request can post while it replays and everything committed is flushed on shutdown.
+@Component
+@ConditionalOnProperty(name = "banking.postings.mode", havingValue = "journal")
+public class JournalFlusher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalFlusher.class);
+
+    record Unit(long position, List<JournalPosting> postings) {
+    }
+
+    private final TransactionJournal journal;
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionOperations transactionOperations;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final ConcurrentLinkedDeque<Unit> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queuedPostings = new AtomicInteger();
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public JournalFlusher(TransactionJournal journal,
+                          TransactionRepository transactionRepository,
+                          AccountRepository accountRepository,
+                          TransactionOperations transactionOperations,
+                          @Value("${banking.postings.journal.flush-interval:200ms}") Duration flushInterval,
+                          @Value("${banking.postings.journal.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.journal = journal;
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.transactionOperations = transactionOperations;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+    }
+
+    void enqueue(long position, List<JournalPosting> postings) {
+        queue.addLast(new Unit(position, postings));
+        Thread current = worker;
+        if (queuedPostings.addAndGet(postings.size()) >= batchSize && current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            replay(journal.open());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        running = true;
+        Thread thread = new Thread(this::run, "journal-flusher");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        worker = null;
+        while (!queue.isEmpty()) {
+            flush();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Lower than the web server's phases: started before it, stopped after it
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        while (running) {
+            if (queuedPostings.get() < batchSize) {
+                LockSupport.parkNanos(flushInterval.toNanos());
+            }
+            try {
+                flush();
+            } catch (RuntimeException ex) {
+                // The batch went back to the queue; retried after the next interval
+                logger.error("Flushing the transaction journal failed", ex);
+                LockSupport.parkNanos(flushInterval.toNanos());
+            }
+        }
+    }
+
+    // Inserts up to one batch of queued units; returns the number of postings handled
+    int flush() {
+        List<Unit> batch = new ArrayList<>();
+        int postings = 0;
+        Unit unit;
+        while (postings < batchSize && (unit = queue.pollFirst()) != null) {
+            batch.add(unit);
+            postings += unit.postings().size();
+        }
+        if (batch.isEmpty()) {
+            checkpoint();
+            return 0;
+        }
+        queuedPostings.addAndGet(-postings);
+        try {
+            insertMissing(batch.stream().flatMap(queued -> queued.postings().stream()).toList());
+        } catch (RuntimeException ex) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                queue.addFirst(batch.get(i));
+            }
+            queuedPostings.addAndGet(postings);
+            throw ex;
+        }
+        for (Unit flushed : batch) {
+            journal.release(flushed.position());
+        }
+        checkpoint();
+        return postings;
+    }
+
+    // A unit without an outcome marker was in doubt when the process stopped: its fsync had finished but the
+    // commit may not have. The account lock is held from the append until after the commit (journal mode requires
+    // pessimistic concurrency, see JournalConfig), so the balance the account had right after it shows whether the
+    // change was committed: the next journaled posting of the account, else the next row in the table (interest
+    // and fees are not journaled), else the current balance.
+    void replay(List<TransactionJournal.Entry> entries) {
+        Map<Long, List<JournalPosting>> units = new LinkedHashMap<>();
+        Map<Long, JournalRecord.Kind> outcomes = new HashMap<>();
+        for (TransactionJournal.Entry entry : entries) {
+            JournalRecord record = JournalRecord.decode(entry.position(), entry.payload());
+            if (record.kind() == JournalRecord.Kind.UNIT) {
+                units.put(record.unitPosition(), record.postings());
+            } else {
+                outcomes.put(record.unitPosition(), record.kind());
+            }
+        }
+        units.keySet().removeIf(position -> outcomes.get(position) == JournalRecord.Kind.ABORT);
+        List<JournalPosting> ordered = units.values().stream().flatMap(List::stream).toList();
+        // followingBalance[i]: balance before the next journaled posting of the same account, null if there is none
+        BigDecimal[] followingBalance = new BigDecimal[ordered.size()];
+        Map<Long, BigDecimal> nextBalanceBefore = new HashMap<>();
+        for (int i = ordered.size() - 1; i >= 0; i--) {
+            followingBalance[i] = nextBalanceBefore.put(ordered.get(i).accountId(), ordered.get(i).balanceBefore());
+        }
+
+        List<JournalPosting> kept = new ArrayList<>();
+        int discarded = 0;
+        int first = 0;
+        for (Map.Entry<Long, List<JournalPosting>> unit : units.entrySet()) {
+            if (outcomes.containsKey(unit.getKey()) || committed(ordered, followingBalance, first, unit.getValue().size())) {
+                kept.addAll(unit.getValue());
+            } else {
+                discarded++;
+                logger.warn("Discarding journal unit {}: its balance change was not committed", unit.getKey());
+            }
+            first += unit.getValue().size();
+        }
+        for (int from = 0; from < kept.size(); from += batchSize) {
+            insertMissing(kept.subList(from, Math.min(kept.size(), from + batchSize)));
+        }
+        checkpoint();
+        if (!entries.isEmpty()) {
+            logger.info("Replayed transaction journal: {} postings kept, {} units discarded", kept.size(), discarded);
+        }
+    }
+
+    // The unit's postings are ordered[first, first + count)
+    private boolean committed(List<JournalPosting> ordered, BigDecimal[] followingBalance, int first, int count) {
+        for (int index = first; index < first + count; index++) {
+            JournalPosting posting = ordered.get(index);
+            BigDecimal balanceAfterwards = followingBalance[index];
+            if (balanceAfterwards == null) {
+                balanceAfterwards = transactionOperations.execute(status -> transactionRepository
+                    .findBalanceBeforeNextPosting(posting.accountId(), posting.transactionDate(),
+                        posting.referenceNumber(), Limit.of(1))
+                    .stream()
+                    .findFirst()
+                    .or(() -> accountRepository.findById(posting.accountId()).map(Account::getBalance))
+                    .orElse(null));
+            }
+            if (balanceAfterwards == null || balanceAfterwards.compareTo(posting.balanceAfter()) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insertMissing(List<JournalPosting> postings) {
+        transactionOperations.executeWithoutResult(status -> {
+            Set<String> existing = new HashSet<>(transactionRepository.findExistingReferenceNumbers(
+                postings.stream().map(JournalPosting::referenceNumber).toList()));
+            List<Transaction> rows = new ArrayList<>(postings.size());
+            for (JournalPosting posting : postings) {
+                if (!existing.contains(posting.referenceNumber())) {
+                    Account account = accountRepository.getReferenceById(posting.accountId());
+                    rows.add(posting.toTransaction(account));
+                }
+            }
+            transactionRepository.saveAll(rows);
+        });
+    }
+
+    private void checkpoint() {
+        try {
+            journal.checkpoint();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.banking.journal;
+
+import com.banking.model.Account;
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// The columns of one transactions row as written to the journal; the reference number identifies it on replay
+public record JournalPosting(String referenceNumber,
+                             long accountId,
+                             TransactionType type,
+                             BigDecimal amount,
+                             BigDecimal balanceBefore,
+                             BigDecimal balanceAfter,
+                             String description,
+                             String relatedAccountNumber,
+                             LocalDateTime transactionDate) {
+
+    public static JournalPosting from(Transaction transaction) {
+        return new JournalPosting(
+            transaction.getReferenceNumber(),
+            transaction.getAccount().getId(),
+            transaction.getType(),
+            transaction.getAmount(),
+            transaction.getBalanceBefore(),
+            transaction.getBalanceAfter(),
+            transaction.getDescription(),
+            transaction.getRelatedAccountNumber(),
+            transaction.getTransactionDate());
+    }
+
+    public Transaction toTransaction(Account account) {
+        Transaction transaction = new Transaction(account, type, amount, balanceBefore, balanceAfter, description);
+        transaction.setRelatedAccountNumber(relatedAccountNumber);
+        transaction.setTransactionDate(transactionDate);
+        transaction.setReferenceNumber(referenceNumber);
+        return transaction;
+    }
+}
@@ -0,0 +1,74 @@
+package com.banking.journal;
+
+import com.banking.model.Transaction;
+import com.banking.numbering.ReferenceNumbers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// Write-behind mode: the rows are appended to the local journal and inserted later by JournalFlusher.
+// The unit is forced to disk before the balance change commits, so a committed balance always has its
+// history on disk; the outcome marker written afterwards tells a replay whether to keep the unit.
+// Until the flusher catches up (banking.postings.journal.flush-interval) the rows are missing from history
+// queries, and the returned TransactionResponse has no id yet; the reference number identifies it.
+@Component
+@ConditionalOnProperty(name = "banking.postings.mode", havingValue = "journal")
+public class JournalPostingWriter implements PostingWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalPostingWriter.class);
+
+    private final TransactionJournal journal;
+    private final JournalFlusher journalFlusher;
+
+    public JournalPostingWriter(TransactionJournal journal, JournalFlusher journalFlusher) {
+        this.journal = journal;
+        this.journalFlusher = journalFlusher;
+    }
+
+    @Override
+    public void write(List<Transaction> postings) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Journaled postings must be written inside a transaction");
+        }
+        // @PrePersist never runs for these entities
+        for (Transaction posting : postings) {
+            if (posting.getReferenceNumber() == null) {
+                posting.setReferenceNumber(ReferenceNumbers.next());
+            }
+        }
+        List<JournalPosting> unit = postings.stream().map(JournalPosting::from).toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private long position = -1;
+
+            // Runs before the commit; a failed append or fsync rolls the balance change back
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                position = journal.append(JournalRecord.unit(unit).encode(), true);
+                journal.awaitDurable();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (position < 0) {
+                    return;
+                }
+                if (status == STATUS_COMMITTED) {
+                    journal.append(JournalRecord.commit(position).encode(), false);
+                    journalFlusher.enqueue(position, unit);
+                } else if (status == STATUS_ROLLED_BACK) {
+                    journal.append(JournalRecord.abort(position).encode(), false);
+                    journal.release(position);
+                } else {
+                    // Left pending, so the checkpoint stays before it and the next startup's replay decides
+                    logger.warn("Outcome of the transaction for journal unit {} is unknown", position);
+                }
+            }
+        });
+    }
+}
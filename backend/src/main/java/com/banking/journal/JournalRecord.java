@@ -0,0 +1,112 @@
+package com.banking.journal;
+
+import com.banking.model.TransactionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// A journal record: the postings of one money movement (UNIT), or the outcome of the database transaction
+// that made them (COMMIT / ABORT), which refers to the unit by its journal position.
+record JournalRecord(Kind kind, long unitPosition, List<JournalPosting> postings) {
+
+    enum Kind {
+        UNIT, COMMIT, ABORT
+    }
+
+    static JournalRecord unit(List<JournalPosting> postings) {
+        return new JournalRecord(Kind.UNIT, -1, postings);
+    }
+
+    static JournalRecord commit(long unitPosition) {
+        return new JournalRecord(Kind.COMMIT, unitPosition, List.of());
+    }
+
+    static JournalRecord abort(long unitPosition) {
+        return new JournalRecord(Kind.ABORT, unitPosition, List.of());
+    }
+
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 * Math.max(1, postings.size()));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(kind.ordinal());
+            if (kind != Kind.UNIT) {
+                out.writeLong(unitPosition);
+                return finish(out, bytes);
+            }
+            out.writeShort(postings.size());
+            for (JournalPosting posting : postings) {
+                out.writeUTF(posting.referenceNumber());
+                out.writeLong(posting.accountId());
+                out.writeUTF(posting.type().name());
+                writeDecimal(out, posting.amount());
+                writeDecimal(out, posting.balanceBefore());
+                writeDecimal(out, posting.balanceAfter());
+                writeNullable(out, posting.description());
+                writeNullable(out, posting.relatedAccountNumber());
+                out.writeUTF(posting.transactionDate().toString());
+            }
+            return finish(out, bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // A unit's id is the position it was read from
+    static JournalRecord decode(long position, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            Kind kind = Kind.values()[in.readUnsignedByte()];
+            if (kind != Kind.UNIT) {
+                return new JournalRecord(kind, in.readLong(), List.of());
+            }
+            int count = in.readUnsignedShort();
+            List<JournalPosting> postings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                postings.add(new JournalPosting(
+                    in.readUTF(),
+                    in.readLong(),
+                    TransactionType.valueOf(in.readUTF()),
+                    readDecimal(in),
+                    readDecimal(in),
+                    readDecimal(in),
+                    readNullable(in),
+                    readNullable(in),
+                    LocalDateTime.parse(in.readUTF())));
+            }
+            return new JournalRecord(kind, position, postings);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] finish(DataOutputStream out, ByteArrayOutputStream bytes) throws IOException {
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        out.writeUTF(value.toPlainString());
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        return new BigDecimal(in.readUTF());
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
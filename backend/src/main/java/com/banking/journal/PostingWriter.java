@@ -0,0 +1,12 @@
+package com.banking.journal;
+
+import com.banking.model.Transaction;
+
+import java.util.List;
+
+// Stores the transactions rows of one money movement; called inside the transaction that changes the balances.
+// Selected with banking.postings.mode (direct | journal).
+public interface PostingWriter {
+
+    void write(List<Transaction> postings);
+}
@@ -0,0 +1,304 @@
+package com.banking.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Append-only log of memory-mapped segment files. Each record is framed by its length and a CRC, so a write
+// torn by a crash ends the log instead of being read back; a zero length marks the end of a segment's data.
+// Positions are global byte offsets (segment index * segment size + offset), so a record's position is also
+// a stable id. Appends only reach the page cache; awaitDurable() forces them with group commit: one caller
+// forces everything appended so far while the others wait for it instead of issuing their own fsync.
+public class TransactionJournal implements Closeable {
+
+    private static final int HEADER_BYTES = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // Positions of records appended with track=true whose rows are not in the database yet; guarded by appendLock
+    private final NavigableSet<Long> pending = new TreeSet<>();
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private volatile long appendPosition = -1;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncFinished = syncLock.newCondition();
+    private long durablePosition;
+    private boolean syncing;
+
+    private long checkpointPosition;
+
+    public TransactionJournal(Path directory, int segmentSize) {
+        if (segmentSize < 4096) {
+            throw new IllegalArgumentException("Segment size must be at least 4096 bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    public record Entry(long position, byte[] payload) {
+    }
+
+    // Returns every intact record from the last checkpoint on and positions the journal after the last one
+    public List<Entry> open() throws IOException {
+        Files.createDirectories(directory);
+        checkpointPosition = readCheckpoint();
+        List<Long> segments = segmentIndexes();
+        for (long index : segments) {
+            if (index < checkpointPosition / segmentSize) {
+                Files.deleteIfExists(segmentPath(index));
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        long index = checkpointPosition / segmentSize;
+        int offset = (int) (checkpointPosition % segmentSize);
+        MappedByteBuffer buffer = map(index);
+        CRC32C crc = new CRC32C();
+        while (true) {
+            int length = offset + HEADER_BYTES <= segmentSize ? buffer.getInt(offset) : 0;
+            if (length == 0 && Files.exists(segmentPath(index + 1))) {
+                index++;
+                offset = 0;
+                buffer = map(index);
+                continue;
+            }
+            if (length <= 0 || length > segmentSize - offset - HEADER_BYTES) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                break;
+            }
+            entries.add(new Entry(index * segmentSize + offset, payload));
+            offset += HEADER_BYTES + length;
+        }
+
+        // Whatever follows the last intact record is a torn write; later appends must not run into it
+        byte[] zeros = new byte[64 * 1024];
+        for (int i = offset; i < segmentSize; i += zeros.length) {
+            buffer.put(i, zeros, 0, Math.min(zeros.length, segmentSize - i));
+        }
+        buffer.force();
+        for (long later : segmentIndexes()) {
+            if (later > index) {
+                Files.deleteIfExists(segmentPath(later));
+            }
+        }
+
+        appendLock.lock();
+        try {
+            segment = buffer;
+            segmentIndex = index;
+            appendPosition = index * segmentSize + offset;
+        } finally {
+            appendLock.unlock();
+        }
+        durablePosition = appendPosition;
+        return entries;
+    }
+
+    // Tracked records hold back the checkpoint until release() is called for their position
+    public long append(byte[] payload, boolean track) {
+        if (payload.length == 0 || payload.length > segmentSize - HEADER_BYTES) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit a segment");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        appendLock.lock();
+        try {
+            if (appendPosition < 0) {
+                throw new IllegalStateException("Journal is not open");
+            }
+            int offset = (int) (appendPosition - segmentIndex * segmentSize);
+            if (offset + HEADER_BYTES + payload.length > segmentSize) {
+                rollOver();
+                offset = 0;
+            }
+            long position = segmentIndex * segmentSize + offset;
+            // The length goes in last, so a reader never sees a length whose payload is not written yet
+            segment.putInt(offset + 4, (int) crc.getValue());
+            segment.put(offset + HEADER_BYTES, payload);
+            segment.putInt(offset, payload.length);
+            appendPosition = position + HEADER_BYTES + payload.length;
+            if (track) {
+                pending.add(position);
+            }
+            return position;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // Returns once everything appended before the call is on disk
+    public void awaitDurable() {
+        long target = appendPosition;
+        syncLock.lock();
+        try {
+            while (durablePosition < target) {
+                if (syncing) {
+                    syncFinished.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long synced = durablePosition;
+                syncLock.unlock();
+                try {
+                    synced = force();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    durablePosition = Math.max(durablePosition, synced);
+                    syncFinished.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public void release(long position) {
+        appendLock.lock();
+        try {
+            pending.remove(position);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // Moves the checkpoint up to the oldest pending record and deletes the segments before it
+    public void checkpoint() throws IOException {
+        long position;
+        appendLock.lock();
+        try {
+            position = pending.isEmpty() ? appendPosition : pending.first();
+        } finally {
+            appendLock.unlock();
+        }
+        if (position <= checkpointPosition) {
+            return;
+        }
+        // Records before the checkpoint are never read again, so they must be durable before it moves
+        awaitDurable();
+        ByteBuffer content = ByteBuffer.allocate(12).putLong(position);
+        CRC32C crc = new CRC32C();
+        crc.update(content.array(), 0, 8);
+        content.putInt((int) crc.getValue()).flip();
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(content);
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+        checkpointPosition = position;
+        for (long index : segmentIndexes()) {
+            if (index < position / segmentSize) {
+                Files.deleteIfExists(segmentPath(index));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (segment != null) {
+                segment.force();
+            }
+            appendPosition = -1;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private long force() {
+        MappedByteBuffer current;
+        long position;
+        appendLock.lock();
+        try {
+            current = segment;
+            position = appendPosition;
+        } finally {
+            appendLock.unlock();
+        }
+        // Earlier segments were forced when they were rolled over
+        current.force();
+        return position;
+    }
+
+    // Called under appendLock
+    private void rollOver() {
+        segment.force();
+        try {
+            segment = map(segmentIndex + 1);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        segmentIndex++;
+        appendPosition = segmentIndex * segmentSize;
+    }
+
+    private MappedByteBuffer map(long index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(index), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (content.remaining() != 12) {
+            throw new IOException("Corrupt journal checkpoint " + file);
+        }
+        long position = content.getLong(0);
+        CRC32C crc = new CRC32C();
+        crc.update(content.array(), 0, 8);
+        if ((int) crc.getValue() != content.getInt(8)) {
+            throw new IOException("Corrupt journal checkpoint " + file);
+        }
+        return position;
+    }
+
+    private List<Long> segmentIndexes() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,38 @@
+package com.banking.mapper;
+
+import com.banking.dto.AccountResponse;
+import com.banking.model.Account;
+import com.banking.model.CheckingAccount;
+import com.banking.model.SavingsAccount;
+
+// Maps loaded Account entities, including the subtype-specific fields
+public final class AccountMapper {
+
+    private AccountMapper() {
+    }
+
+    public static AccountResponse toResponse(Account account) {
+        AccountResponse response = new AccountResponse();
+        response.setId(account.getId());
+        response.setAccountNumber(account.getAccountNumber());
+        response.setAccountHolderName(account.getAccountHolderName());
+        response.setEmail(account.getEmail());
+        response.setBalance(account.getBalance());
+        response.setAccountType(account.getAccountType());
+        response.setActive(account.isActive());
+        response.setCreatedAt(account.getCreatedAt());
+        response.setUpdatedAt(account.getUpdatedAt());
+        response.setAvailableBalance(account.getBalance());
+
+        if (account instanceof SavingsAccount savings) {
+            response.setMinimumBalance(savings.getMinimumBalance());
+            response.setInterestRate(savings.getInterestRate());
+        } else if (account instanceof CheckingAccount checking) {
+            response.setOverdraftLimit(checking.getOverdraftLimit());
+            response.setMonthlyFee(checking.getMonthlyFee());
+            response.setAvailableBalance(checking.getAvailableBalance());
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,26 @@
+package com.banking.mapper;
+
+import com.banking.dto.TransactionResponse;
+import com.banking.model.Transaction;
+
+// Maps loaded Transaction entities; read queries project straight into TransactionResponse instead.
+// The caller must have the account loaded (or be inside the session), since its number is read here.
+public final class TransactionMapper {
+
+    private TransactionMapper() {
+    }
+
+    public static TransactionResponse toResponse(Transaction transaction) {
+        return new TransactionResponse(
+            transaction.getId(),
+            transaction.getReferenceNumber(),
+            transaction.getAccount().getAccountNumber(),
+            transaction.getType(),
+            transaction.getAmount(),
+            transaction.getBalanceBefore(),
+            transaction.getBalanceAfter(),
+            transaction.getDescription(),
+            transaction.getRelatedAccountNumber(),
+            transaction.getTransactionDate());
+    }
+}
@@ -0,0 +1,77 @@
+package com.banking.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Records how many rows each repository method returns. Query timings come from Spring Boot's
+// spring.data.repository.invocations timer, which already carries the same repository/method tags.
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    static final String METRIC_NAME = "banking.repository.rows";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object countRows(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        if (result instanceof Stream<?> stream) {
+            // Rows of a stream are only known once the caller has consumed and closed it
+            DistributionSummary rows = rows(joinPoint);
+            AtomicLong count = new AtomicLong();
+            return stream.peek(row -> count.incrementAndGet()).onClose(() -> rows.record(count.get()));
+        }
+        long count;
+        if (result instanceof Collection<?> collection) {
+            count = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            count = slice.getNumberOfElements();
+        } else if (result instanceof Optional<?> optional) {
+            count = optional.isPresent() ? 1 : 0;
+        } else {
+            // Single entities, counts and aggregates say nothing about the rows read
+            return result;
+        }
+        rows(joinPoint).record(count);
+        return result;
+    }
+
+    private DistributionSummary rows(ProceedingJoinPoint joinPoint) {
+        return DistributionSummary.builder(METRIC_NAME)
+            .baseUnit("rows")
+            .tag("repository", repositoryName(joinPoint.getThis()))
+            .tag("method", joinPoint.getSignature().getName())
+            .register(meterRegistry);
+    }
+
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), proxyClass -> {
+            for (Class<?> candidate : proxyClass.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate.getPackageName().startsWith("com.banking")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return AopUtils.getTargetClass(proxy).getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.banking.model;
+
+public enum AccountTableLayout {
+    // accounts plus one table per subclass (the annotations on Account and its subclasses)
+    JOINED,
+    // every account in the accounts table, told apart by account_type (META-INF/orm-single-table.xml)
+    SINGLE_TABLE
+}
@@ -0,0 +1,56 @@
+package com.banking.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Marks one committed id range of a chunked batch job, written in the same transaction as its postings
+@Entity
+@Table(name = "batch_chunks", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_batch_chunk_range", columnNames = {"job_name", "period", "range_start"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 30)
+    private String jobName;
+
+    @Column(name = "period", nullable = false, length = 7)
+    private String period;
+
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Column(name = "accounts_processed", nullable = false)
+    private int accountsProcessed;
+
+    @Column(name = "accounts_failed", nullable = false)
+    private int accountsFailed;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    public BatchChunk(String jobName, String period, Long rangeStart, Long rangeEnd) {
+        this.jobName = jobName;
+        this.period = period;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.completedAt = LocalDateTime.now();
+    }
+}
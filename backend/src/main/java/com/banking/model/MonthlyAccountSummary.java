@@ -0,0 +1,88 @@
+package com.banking.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+
+// Running statement header of one account for one calendar month, updated with every posting
+@Entity
+@Table(name = "monthly_account_summary", uniqueConstraints = {
+    @UniqueConstraint(name = MonthlyAccountSummary.ACCOUNT_PERIOD_CONSTRAINT, columnNames = {"account_id", "period"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class MonthlyAccountSummary {
+
+    // Two first postings of a month racing in optimistic mode both insert; the loser is retried on this violation
+    public static final String ACCOUNT_PERIOD_CONSTRAINT = "uk_monthly_summary_account_period";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "monthly_summary_seq")
+    @SequenceGenerator(name = "monthly_summary_seq", sequenceName = "monthly_account_summary_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "period", nullable = false, length = 7)
+    private String period;
+
+    @Column(name = "opening_balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal openingBalance;
+
+    @Column(name = "closing_balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal closingBalance;
+
+    @Column(name = "total_deposits", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDeposits = BigDecimal.ZERO;
+
+    @Column(name = "total_withdrawals", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalWithdrawals = BigDecimal.ZERO;
+
+    @Column(name = "total_transfers_in", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalTransfersIn = BigDecimal.ZERO;
+
+    @Column(name = "total_transfers_out", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalTransfersOut = BigDecimal.ZERO;
+
+    @Column(name = "total_interest", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalInterest = BigDecimal.ZERO;
+
+    @Column(name = "total_fees", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalFees = BigDecimal.ZERO;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public MonthlyAccountSummary(Long accountId, String period, BigDecimal openingBalance) {
+        this.accountId = accountId;
+        this.period = period;
+        this.openingBalance = openingBalance;
+        this.closingBalance = openingBalance;
+    }
+
+    // Postings of an account must be applied in the order they were made
+    public void apply(Transaction transaction) {
+        BigDecimal amount = transaction.getAmount();
+        switch (transaction.getType()) {
+            case DEPOSIT -> totalDeposits = totalDeposits.add(amount);
+            case WITHDRAWAL -> totalWithdrawals = totalWithdrawals.add(amount);
+            case TRANSFER_IN -> totalTransfersIn = totalTransfersIn.add(amount);
+            case TRANSFER_OUT -> totalTransfersOut = totalTransfersOut.add(amount);
+            case INTEREST -> totalInterest = totalInterest.add(amount);
+            case FEE -> totalFees = totalFees.add(amount);
+        }
+        closingBalance = transaction.getBalanceAfter();
+        transactionCount++;
+    }
+}
@@ -1,5 +1,6 @@
 package com.banking.model;
 
+import com.banking.numbering.ReferenceNumbers;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,18 +10,22 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+// Every account query filters on account_id first, then on date (history, ranges, keyset pages)
+// or on type and date; the month-end reports filter on type and date across accounts
 @Table(name = "transactions", indexes = {
-    @Index(name = "idx_transaction_account", columnList = "account_id"),
-    @Index(name = "idx_transaction_date", columnList = "transaction_date"),
-    @Index(name = "idx_transaction_type", columnList = "transaction_type")
+    @Index(name = "idx_transaction_account_date", columnList = "account_id, transaction_date DESC, id DESC"),
+    @Index(name = "idx_transaction_account_type_date", columnList = "account_id, transaction_type, transaction_date"),
+    @Index(name = "idx_transaction_type_date", columnList = "transaction_type, transaction_date")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 public class Transaction {
 
+    // Pooled sequence: ids are handed out in blocks of 50 so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,14 +63,10 @@ public class Transaction {
             this.transactionDate = LocalDateTime.now();
         }
         if (this.referenceNumber == null) {
-            this.referenceNumber = generateReferenceNumber();
+            this.referenceNumber = ReferenceNumbers.next();
         }
     }
 
-    private String generateReferenceNumber() {
-        return "TXN" + System.currentTimeMillis() + String.format("%04d", (int) (Math.random() * 10000));
-    }
-
     public Transaction(Account account, TransactionType type, BigDecimal amount,
                       BigDecimal balanceBefore, BigDecimal balanceAfter, String description) {
         this.account = account;
@@ -0,0 +1,101 @@
+package com.banking.numbering;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// Issues account numbers of the form ACC + 12-digit serial + Luhn check digit. Serials come from a
+// database sequence in blocks of BLOCK_SIZE that are handed out in memory, so only one account creation
+// per block touches the database and numbers stay unique across instances without an existence check.
+@Component
+public class AccountNumberGenerator {
+
+    // Created by db/migration/postgresql/006 and declared to schema generation by AccountNumberSequenceContributor
+    static final String SEQUENCE_NAME = "account_number_seq";
+    // Baked into the sequence increment; changing it on an existing sequence would hand out overlapping blocks
+    static final int BLOCK_SIZE = 1000;
+
+    private static final String PREFIX = "ACC";
+    private static final int SERIAL_DIGITS = 12;
+    private static final long MAX_SERIAL = 999_999_999_999L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueSql;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    @Autowired
+    public AccountNumberGenerator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this(jdbcTemplate, entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect()
+            .getSequenceSupport()
+            .getSequenceNextValString(SEQUENCE_NAME));
+    }
+
+    AccountNumberGenerator(JdbcTemplate jdbcTemplate, String nextValueSql) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueSql = nextValueSql;
+    }
+
+    public String next() {
+        long serial;
+        lock.lock();
+        try {
+            if (next >= limit) {
+                allocateBlock();
+            }
+            serial = next++;
+        } finally {
+            lock.unlock();
+        }
+        return format(serial);
+    }
+
+    private void allocateBlock() {
+        Long blockStart = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+        if (blockStart == null || blockStart + BLOCK_SIZE - 1 > MAX_SERIAL) {
+            throw new IllegalStateException("Account number sequence is exhausted");
+        }
+        next = blockStart;
+        limit = blockStart + BLOCK_SIZE;
+    }
+
+    static String format(long serial) {
+        String digits = String.format("%0" + SERIAL_DIGITS + "d", serial);
+        return PREFIX + digits + checkDigit(digits);
+    }
+
+    static boolean isValid(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != PREFIX.length() + SERIAL_DIGITS + 1
+                || !accountNumber.startsWith(PREFIX)) {
+            return false;
+        }
+        String digits = accountNumber.substring(PREFIX.length(), accountNumber.length() - 1);
+        char check = accountNumber.charAt(accountNumber.length() - 1);
+        return digits.chars().allMatch(Character::isDigit) && check == checkDigit(digits);
+    }
+
+    // Luhn (mod 10): catches every single-digit typo and most adjacent transpositions
+    static char checkDigit(String digits) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int digit = digits.charAt(i) - '0';
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+}
@@ -0,0 +1,30 @@
+package com.banking.numbering;
+
+import org.hibernate.boot.ResourceStreamLocator;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.boot.spi.AdditionalMappingContributions;
+import org.hibernate.boot.spi.AdditionalMappingContributor;
+import org.hibernate.boot.spi.InFlightMetadataCollector;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+
+// account_number_seq is not the id generator of any entity, so it is declared to Hibernate here: schema generation
+// (tests, ddl-auto=update) creates it and ddl-auto=validate checks it. Existing databases get it from
+// db/migration/postgresql/006_account_number_seq.sql. Registered in META-INF/services.
+public class AccountNumberSequenceContributor implements AdditionalMappingContributor {
+
+    @Override
+    public String getContributorName() {
+        return "banking-account-numbers";
+    }
+
+    @Override
+    public void contribute(AdditionalMappingContributions contributions,
+                           InFlightMetadataCollector metadata,
+                           ResourceStreamLocator resourceStreamLocator,
+                           MetadataBuildingContext buildingContext) {
+        metadata.getDatabase().getDefaultNamespace().createSequence(
+            Identifier.toIdentifier(AccountNumberGenerator.SEQUENCE_NAME),
+            name -> new Sequence(getContributorName(), null, null, name, 1, AccountNumberGenerator.BLOCK_SIZE));
+    }
+}
@@ -0,0 +1,7 @@
+package com.banking.numbering;
+
+// Produces the unique reference_number of each posted transaction
+public interface ReferenceNumberGenerator {
+
+    String next();
+}
@@ -0,0 +1,20 @@
+package com.banking.numbering;
+
+// Transaction.onCreate is a JPA callback on an entity Spring does not manage, so it reaches the
+// configured generator through this holder. Until the application context installs one, a node 0
+// generator is used (unit tests that persist nothing never notice).
+public final class ReferenceNumbers {
+
+    private static volatile ReferenceNumberGenerator generator = new SnowflakeReferenceNumberGenerator(0);
+
+    private ReferenceNumbers() {
+    }
+
+    public static String next() {
+        return generator.next();
+    }
+
+    public static void install(ReferenceNumberGenerator referenceNumberGenerator) {
+        generator = referenceNumberGenerator;
+    }
+}
@@ -0,0 +1,58 @@
+package com.banking.numbering;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Snowflake-style ids: 41 bits of milliseconds since 2024-01-01, 10 bits of node id, 12 bits of sequence,
+// rendered as TXN + 19 zero-padded digits. Each id is taken with a single CAS on one long, so callers
+// never block; more than 4096 ids in a millisecond borrow the next millisecond instead of waiting, and a
+// clock that steps back is ignored in-process (ids keep increasing from the last one issued).
+public class SnowflakeReferenceNumberGenerator implements ReferenceNumberGenerator {
+
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final String PREFIX = "TXN";
+    private static final int DIGITS = 19;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeBits;
+    private final LongSupplier currentMillis;
+    // (milliseconds since the epoch << SEQUENCE_BITS) | sequence of the last id handed out
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public SnowflakeReferenceNumberGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeReferenceNumberGenerator(int nodeId, LongSupplier currentMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.currentMillis = currentMillis;
+    }
+
+    @Override
+    public String next() {
+        return format(nextId());
+    }
+
+    long nextId() {
+        long now = (currentMillis.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long tick = lastTick.accumulateAndGet(now, (last, candidate) -> Math.max(last + 1, candidate));
+        return (tick >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | nodeBits | (tick & SEQUENCE_MASK);
+    }
+
+    // Fixed width keeps references sortable by time and apart from the 17-digit references issued before
+    static String format(long id) {
+        String digits = Long.toString(id);
+        StringBuilder reference = new StringBuilder(PREFIX.length() + DIGITS).append(PREFIX);
+        for (int i = digits.length(); i < DIGITS; i++) {
+            reference.append('0');
+        }
+        return reference.append(digits).toString();
+    }
+}
@@ -0,0 +1,9 @@
+package com.banking.repository;
+
+// Compact projection for resolving account numbers without loading the account hierarchy
+public interface AccountNumberView {
+
+    Long getId();
+
+    String getAccountNumber();
+}
@@ -1,20 +1,47 @@
 package com.banking.repository;
 
 import com.banking.model.Account;
+import com.banking.model.CheckingAccount;
+import com.banking.model.SavingsAccount;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
-    boolean existsByAccountNumber(String accountNumber);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT a.id FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT a.id AS id, a.accountNumber AS accountNumber FROM Account a " +
+           "WHERE a.accountNumber IN :accountNumbers")
+    List<AccountNumberView> findIdsByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // Warms AccountNumberIndex; only the two columns are read, in fetch-size blocks
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.id AS id, a.accountNumber AS accountNumber FROM Account a")
+    Stream<AccountNumberView> streamAccountNumbers();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids ORDER BY a.id")
+    List<Account> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 
     List<Account> findByAccountHolderName(String accountHolderName);
 
@@ -27,9 +54,37 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT a FROM Account a WHERE TYPE(a) = com.banking.model.SavingsAccount")
     List<Account> findAllSavingsAccounts();
 
+    @Query("SELECT MIN(a.id) FROM SavingsAccount a")
+    Long findMinSavingsAccountId();
+
+    @Query("SELECT MAX(a.id) FROM SavingsAccount a")
+    Long findMaxSavingsAccountId();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM SavingsAccount a WHERE a.id BETWEEN :startId AND :endId " +
+           "AND a.active = true ORDER BY a.id")
+    List<SavingsAccount> findActiveSavingsAccountsInRangeForUpdate(
+        @Param("startId") Long startId,
+        @Param("endId") Long endId
+    );
+
     @Query("SELECT a FROM Account a WHERE TYPE(a) = com.banking.model.CheckingAccount")
     List<Account> findAllCheckingAccounts();
 
+    @Query("SELECT MIN(a.id) FROM CheckingAccount a")
+    Long findMinCheckingAccountId();
+
+    @Query("SELECT MAX(a.id) FROM CheckingAccount a")
+    Long findMaxCheckingAccountId();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM CheckingAccount a WHERE a.id BETWEEN :startId AND :endId " +
+           "AND a.active = true ORDER BY a.id")
+    List<CheckingAccount> findActiveCheckingAccountsInRangeForUpdate(
+        @Param("startId") Long startId,
+        @Param("endId") Long endId
+    );
+
     @Query("SELECT a FROM Account a WHERE TYPE(a) = :accountType")
     List<Account> findByAccountType(@Param("accountType") Class<? extends Account> accountType);
 }
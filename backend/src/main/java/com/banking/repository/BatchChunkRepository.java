@@ -0,0 +1,21 @@
+package com.banking.repository;
+
+import com.banking.model.BatchChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BatchChunkRepository extends JpaRepository<BatchChunk, Long> {
+
+    @Query("SELECT c FROM BatchChunk c WHERE c.jobName = :jobName AND c.period = :period ORDER BY c.rangeStart")
+    List<BatchChunk> findCompletedChunks(@Param("jobName") String jobName, @Param("period") String period);
+
+    @Query("SELECT COUNT(c) > 0 FROM BatchChunk c WHERE c.jobName = :jobName AND c.period = :period " +
+           "AND c.rangeStart <= :rangeEnd AND c.rangeEnd >= :rangeStart")
+    boolean existsOverlappingChunk(@Param("jobName") String jobName, @Param("period") String period,
+                                   @Param("rangeStart") Long rangeStart, @Param("rangeEnd") Long rangeEnd);
+}
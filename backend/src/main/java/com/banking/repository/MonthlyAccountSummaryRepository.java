@@ -0,0 +1,22 @@
+package com.banking.repository;
+
+import com.banking.model.MonthlyAccountSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MonthlyAccountSummaryRepository extends JpaRepository<MonthlyAccountSummary, Long> {
+
+    Optional<MonthlyAccountSummary> findByAccountIdAndPeriod(Long accountId, String period);
+
+    List<MonthlyAccountSummary> findByPeriodAndAccountIdIn(String period, Collection<Long> accountIds);
+
+    // Periods are stored as yyyy-MM, so string order is calendar order
+    Optional<MonthlyAccountSummary> findFirstByAccountIdAndPeriodLessThanOrderByPeriodDesc(Long accountId, String period);
+
+    Optional<MonthlyAccountSummary> findFirstByAccountIdAndPeriodGreaterThanOrderByPeriodAsc(Long accountId, String period);
+}
@@ -1,34 +1,54 @@
 package com.banking.repository;
 
+import com.banking.dto.TransactionResponse;
 import com.banking.model.Transaction;
 import com.banking.model.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
- 
-    List<Transaction> findByAccountIdOrderByTransactionDateDesc(Long accountId);
 
-    Page<Transaction> findByAccountId(Long accountId, Pageable pageable);
+    // Read queries project into TransactionResponse with the account number joined in, so a list costs
+    // one statement instead of one extra select per account (and its JOINED subclass tables)
+    String SELECT_RESPONSE = "SELECT new com.banking.dto.TransactionResponse(t.id, t.referenceNumber, " +
+        "a.accountNumber, t.type, t.amount, t.balanceBefore, t.balanceAfter, t.description, " +
+        "t.relatedAccountNumber, t.transactionDate) FROM Transaction t JOIN t.account a ";
+
+    // Derived queries on account.id join accounts and filter there, which keeps the planner off the
+    // transactions indexes; these compare the account_id column directly instead
+    @Query(SELECT_RESPONSE + "WHERE t.account.id = :accountId ORDER BY t.transactionDate DESC")
+    List<TransactionResponse> findByAccountIdOrderByTransactionDateDesc(@Param("accountId") Long accountId);
 
-    Optional<Transaction> findByReferenceNumber(String referenceNumber);
+    @Query(value = SELECT_RESPONSE + "WHERE t.account.id = :accountId",
+           countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.account.id = :accountId")
+    Page<TransactionResponse> findByAccountId(@Param("accountId") Long accountId, Pageable pageable);
 
-    List<Transaction> findByAccountIdAndType(Long accountId, TransactionType type);
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account WHERE t.referenceNumber = :referenceNumber")
+    Optional<Transaction> findByReferenceNumber(@Param("referenceNumber") String referenceNumber);
 
-    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId " +
+    @Query(SELECT_RESPONSE + "WHERE t.account.id = :accountId AND t.type = :type")
+    List<TransactionResponse> findByAccountIdAndType(@Param("accountId") Long accountId, @Param("type") TransactionType type);
+
+    @Query(SELECT_RESPONSE + "WHERE t.account.id = :accountId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
-           "ORDER BY t.transactionDate DESC")
-    List<Transaction> findByAccountIdAndDateRange(
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findByAccountIdAndDateRange(
         @Param("accountId") Long accountId,
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
@@ -51,13 +71,15 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("endDate") LocalDateTime endDate
     );
 
-    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId " +
-           "AND YEAR(t.transactionDate) = :year AND MONTH(t.transactionDate) = :month " +
-           "ORDER BY t.transactionDate DESC")
-    List<Transaction> findMonthlyTransactions(
+    // Half-open range [monthStart, nextMonthStart): a plain column comparison the
+    // (account_id, transaction_date) index can seek on, and no fractional second is lost at month end
+    @Query(SELECT_RESPONSE + "WHERE t.account.id = :accountId " +
+           "AND t.transactionDate >= :monthStart AND t.transactionDate < :nextMonthStart " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findMonthlyTransactions(
         @Param("accountId") Long accountId,
-        @Param("year") int year,
-        @Param("month") int month
+        @Param("monthStart") LocalDateTime monthStart,
+        @Param("nextMonthStart") LocalDateTime nextMonthStart
     );
 
 
@@ -76,11 +98,69 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("endDate") LocalDateTime endDate
     );
 
-    @Query("SELECT t FROM Transaction t WHERE t.account.customer.id = :customerId " +
-           "ORDER BY t.transactionDate DESC")
-    List<Transaction> findByCustomerId(@Param("customerId") Long customerId);
+    @Query(SELECT_RESPONSE + "WHERE a.customer.id = :customerId ORDER BY t.transactionDate DESC")
+    List<TransactionResponse> findByCustomerId(@Param("customerId") Long customerId);
+
+    @Query(value = SELECT_RESPONSE + "WHERE a.customer.id = :customerId ORDER BY t.transactionDate DESC",
+           countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.account.customer.id = :customerId")
+    Page<TransactionResponse> findByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    // Keyset pages on (transaction_date, id): each page seeks past the previous one instead of
+    // skipping an offset, and no count query is issued
+    @Query(SELECT_RESPONSE + "WHERE t.account.id = :accountId " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findFirstPageByAccountId(@Param("accountId") Long accountId, Limit limit);
+
+    @Query(SELECT_RESPONSE + "WHERE t.account.id = :accountId " +
+           "AND (t.transactionDate, t.id) < (:transactionDate, :id) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findPageByAccountIdAfter(
+        @Param("accountId") Long accountId,
+        @Param("transactionDate") LocalDateTime transactionDate,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query(SELECT_RESPONSE + "WHERE a.customer.id = :customerId " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findFirstPageByCustomerId(@Param("customerId") Long customerId, Limit limit);
+
+    @Query(SELECT_RESPONSE + "WHERE a.customer.id = :customerId " +
+           "AND (t.transactionDate, t.id) < (:transactionDate, :id) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findPageByCustomerIdAfter(
+        @Param("customerId") Long customerId,
+        @Param("transactionDate") LocalDateTime transactionDate,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    // Export cursors: rows are fetched from the server in blocks instead of being materialized at once.
+    // The stream must be consumed and closed inside a transaction (PostgreSQL only uses a cursor then).
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account WHERE t.account.id = :accountId " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<Transaction> streamByAccountId(@Param("accountId") Long accountId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.account a WHERE a.customer.id = :customerId " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<Transaction> streamByCustomerId(@Param("customerId") Long customerId);
+
+    // Lets a journal replay skip rows that reached the table before the process stopped
+    @Query("SELECT t.referenceNumber FROM Transaction t WHERE t.referenceNumber IN :referenceNumbers")
+    List<String> findExistingReferenceNumbers(@Param("referenceNumbers") Collection<String> referenceNumbers);
 
-    @Query("SELECT t FROM Transaction t WHERE t.account.customer.id = :customerId " +
-           "ORDER BY t.transactionDate DESC")
-    Page<Transaction> findByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+    @Query("SELECT t.balanceBefore FROM Transaction t WHERE t.account.id = :accountId AND t.transactionDate >= :from " +
+           "AND t.referenceNumber <> :referenceNumber ORDER BY t.transactionDate, t.id")
+    List<BigDecimal> findBalanceBeforeNextPosting(@Param("accountId") Long accountId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("referenceNumber") String referenceNumber,
+                                                  Limit limit);
 }
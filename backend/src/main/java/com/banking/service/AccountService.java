@@ -14,6 +14,7 @@ public interface AccountService {
     TransactionResponse deposit(Long accountId, DepositRequest request);
     TransactionResponse withdraw(Long accountId, WithdrawRequest request);
     TransactionResponse transfer(TransferRequest request);
+    BatchTransferResponse transferBatch(List<TransferRequest> requests);
     AccountResponse deactivateAccount(Long accountId);
     AccountResponse activateAccount(Long accountId);
     List<AccountResponse> getAccountsByCustomerId(Long customerId);
@@ -0,0 +1,10 @@
+package com.banking.service;
+
+import com.banking.dto.BatchJobResponse;
+
+public interface FeeService {
+
+    BatchJobResponse applyMonthlyFeesToAllAccounts();
+
+    BatchJobResponse triggerFeeApplication();
+}
@@ -1,16 +1,15 @@
 package com.banking.service;
 
+import com.banking.dto.BatchJobResponse;
 import com.banking.dto.InterestCalculationResponse;
 
-import java.util.List;
-
 public interface InterestService {
 
     InterestCalculationResponse applyInterest(Long accountId);
 
     InterestCalculationResponse calculateInterest(Long accountId);
 
-    List<InterestCalculationResponse> applyMonthlyInterestToAllAccounts();
+    BatchJobResponse applyMonthlyInterestToAllAccounts();
 
-    List<InterestCalculationResponse> triggerInterestApplication();
+    BatchJobResponse triggerInterestApplication();
 }
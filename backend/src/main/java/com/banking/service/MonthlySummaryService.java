@@ -0,0 +1,15 @@
+package com.banking.service;
+
+import com.banking.model.MonthlyAccountSummary;
+import com.banking.model.Transaction;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+public interface MonthlySummaryService {
+
+    void recordPostings(List<Transaction> postings);
+
+    Optional<MonthlyAccountSummary> getSummary(Long accountId, YearMonth month);
+}
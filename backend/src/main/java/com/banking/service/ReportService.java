@@ -6,5 +6,7 @@ public interface ReportService {
 
     MonthlyReportResponse generateMonthlyReport(Long accountId, int year, int month);
 
+    MonthlyReportResponse generateMonthlySummary(Long accountId, int year, int month);
+
     MonthlyReportResponse generateMonthlyReportByAccountNumber(String accountNumber, int year, int month);
 }
@@ -0,0 +1,11 @@
+package com.banking.service;
+
+import com.banking.export.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface TransactionExportService {
+
+    StreamingResponseBody exportAccountTransactions(Long accountId, ExportFormat format);
+
+    StreamingResponseBody exportCustomerTransactions(Long customerId, ExportFormat format);
+}
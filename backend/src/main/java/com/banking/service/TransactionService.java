@@ -1,5 +1,6 @@
 package com.banking.service;
 
+import com.banking.dto.CursorPage;
 import com.banking.dto.TransactionResponse;
 import com.banking.model.TransactionType;
 import org.springframework.data.domain.Page;
@@ -17,6 +18,10 @@ public interface TransactionService {
 
     Page<TransactionResponse> getTransactionsByAccountId(Long accountId, Pageable pageable);
 
+    CursorPage<TransactionResponse> getTransactionsByAccountId(Long accountId, String cursor, int size);
+
+    CursorPage<TransactionResponse> getTransactionsByCustomerId(Long customerId, String cursor, int size);
+
     List<TransactionResponse> getTransactionsByDateRange(Long accountId, LocalDateTime startDate, LocalDateTime endDate);
 
     List<TransactionResponse> getTransactionsByType(Long accountId, TransactionType type);
@@ -1,19 +1,33 @@
 package com.banking.service.impl;
 
+import com.banking.cache.AccountNumberIndex;
+import com.banking.cache.AccountResponseCache;
+import com.banking.concurrency.MoneyMovementExecutor;
 import com.banking.dto.*;
 import com.banking.exception.AccountNotFoundException;
+import com.banking.journal.PostingWriter;
+import com.banking.mapper.AccountMapper;
+import com.banking.mapper.TransactionMapper;
 import com.banking.model.*;
+import com.banking.numbering.AccountNumberGenerator;
 import com.banking.repository.AccountRepository;
 import com.banking.repository.CustomerRepository;
-import com.banking.repository.TransactionRepository;
 import com.banking.service.AccountService;
+import com.banking.service.MonthlySummaryService;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,23 +35,38 @@ import java.util.stream.Collectors;
 public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
-    private final TransactionRepository transactionRepository;
+    private final PostingWriter postingWriter;
     private final CustomerRepository customerRepository;
     private final ModelMapper modelMapper;
+    private final MoneyMovementExecutor moneyMovementExecutor;
+    private final MonthlySummaryService monthlySummaryService;
+    private final AccountResponseCache accountResponseCache;
+    private final AccountNumberIndex accountNumberIndex;
+    private final AccountNumberGenerator accountNumberGenerator;
 
     public AccountServiceImpl(AccountRepository accountRepository, 
-                              TransactionRepository transactionRepository,
+                              PostingWriter postingWriter,
                               CustomerRepository customerRepository,
-                              ModelMapper modelMapper) {
+                              ModelMapper modelMapper,
+                              MoneyMovementExecutor moneyMovementExecutor,
+                              MonthlySummaryService monthlySummaryService,
+                              AccountResponseCache accountResponseCache,
+                              AccountNumberIndex accountNumberIndex,
+                              AccountNumberGenerator accountNumberGenerator) {
         this.accountRepository = accountRepository;
-        this.transactionRepository = transactionRepository;
+        this.postingWriter = postingWriter;
         this.customerRepository = customerRepository;
         this.modelMapper = modelMapper;
+        this.moneyMovementExecutor = moneyMovementExecutor;
+        this.monthlySummaryService = monthlySummaryService;
+        this.accountResponseCache = accountResponseCache;
+        this.accountNumberIndex = accountNumberIndex;
+        this.accountNumberGenerator = accountNumberGenerator;
     }
 
     @Override
     public AccountResponse createSavingsAccount(CreateSavingsAccountRequest request) {
-        String accountNumber = generateAccountNumber();
+        String accountNumber = accountNumberGenerator.next();
         Customer customer = findOrCreateCustomer(request.getAccountHolderName(), request.getEmail());
         
         SavingsAccount account = new SavingsAccount(
@@ -51,12 +80,13 @@ public class AccountServiceImpl implements AccountService {
         account.setCustomer(customer);
         
         Account savedAccount = accountRepository.save(account);
-        return mapToAccountResponse(savedAccount);
+        accountNumberIndex.registerAfterCommit(savedAccount.getAccountNumber(), savedAccount.getId());
+        return AccountMapper.toResponse(savedAccount);
     }
 
     @Override
     public AccountResponse createCheckingAccount(CreateCheckingAccountRequest request) {
-        String accountNumber = generateAccountNumber();
+        String accountNumber = accountNumberGenerator.next();
         Customer customer = findOrCreateCustomer(request.getAccountHolderName(), request.getEmail());
         
         CheckingAccount account = new CheckingAccount(
@@ -70,28 +100,29 @@ public class AccountServiceImpl implements AccountService {
         account.setCustomer(customer);
         
         Account savedAccount = accountRepository.save(account);
-        return mapToAccountResponse(savedAccount);
+        accountNumberIndex.registerAfterCommit(savedAccount.getAccountNumber(), savedAccount.getId());
+        return AccountMapper.toResponse(savedAccount);
     }
 
+    // Served from the account cache; a miss loads the account in the repository's own transaction,
+    // so a hit touches neither a transaction nor a connection
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public AccountResponse getAccountById(Long id) {
-        Account account = findAccountById(id);
-        return mapToAccountResponse(account);
+        return accountResponseCache.getById(id, accountId -> AccountMapper.toResponse(findAccountById(accountId)));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public AccountResponse getAccountByNumber(String accountNumber) {
-        Account account = findAccountByNumber(accountNumber);
-        return mapToAccountResponse(account);
+        return getAccountById(resolveAccountId(accountNumber));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AccountResponse> getAllAccounts() {
         return accountRepository.findAll().stream()
-            .map(this::mapToAccountResponse)
+            .map(AccountMapper::toResponse)
             .collect(Collectors.toList());
     }
 
@@ -99,17 +130,41 @@ public class AccountServiceImpl implements AccountService {
     @Transactional(readOnly = true)
     public List<AccountResponse> getActiveAccounts() {
         return accountRepository.findByActive(true).stream()
-            .map(this::mapToAccountResponse)
+            .map(AccountMapper::toResponse)
             .collect(Collectors.toList());
     }
 
+    // Money movement runs in its own transaction under the configured concurrency mode
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TransactionResponse deposit(Long accountId, DepositRequest request) {
-        Account account = findAccountById(accountId);
+        return moneyMovementExecutor.execute("deposit", List.of(accountId),
+            () -> doDeposit(accountId, request));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TransactionResponse withdraw(Long accountId, WithdrawRequest request) {
+        return moneyMovementExecutor.execute("withdraw", List.of(accountId),
+            () -> doWithdraw(accountId, request));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TransactionResponse transfer(TransferRequest request) {
+        Long sourceId = resolveAccountId(request.getSourceAccountNumber());
+        Long targetId = resolveAccountId(request.getTargetAccountNumber());
+        return moneyMovementExecutor.execute("transfer", List.of(sourceId, targetId),
+            () -> doTransfer(sourceId, targetId, request));
+    }
+
+    private TransactionResponse doDeposit(Long accountId, DepositRequest request) {
+        Account account = findAccountForUpdate(accountId);
         BigDecimal balanceBefore = account.getBalance();
         
         account.deposit(request.getAmount());
         accountRepository.save(account);
+        accountResponseCache.evictAfterCommit(List.of(accountId));
         
         Transaction transaction = Transaction.createDeposit(
             account,
@@ -121,17 +176,18 @@ public class AccountServiceImpl implements AccountService {
             transaction.setDescription(request.getDescription());
         }
         
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        return mapToTransactionResponse(savedTransaction);
+        postingWriter.write(List.of(transaction));
+        monthlySummaryService.recordPostings(List.of(transaction));
+        return TransactionMapper.toResponse(transaction);
     }
 
-    @Override
-    public TransactionResponse withdraw(Long accountId, WithdrawRequest request) {
-        Account account = findAccountById(accountId);
+    private TransactionResponse doWithdraw(Long accountId, WithdrawRequest request) {
+        Account account = findAccountForUpdate(accountId);
         BigDecimal balanceBefore = account.getBalance();
         
         account.withdraw(request.getAmount());
         accountRepository.save(account);
+        accountResponseCache.evictAfterCommit(List.of(accountId));
         
         Transaction transaction = Transaction.createWithdrawal(
             account,
@@ -143,15 +199,120 @@ public class AccountServiceImpl implements AccountService {
             transaction.setDescription(request.getDescription());
         }
         
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        return mapToTransactionResponse(savedTransaction);
+        postingWriter.write(List.of(transaction));
+        monthlySummaryService.recordPostings(List.of(transaction));
+        return TransactionMapper.toResponse(transaction);
+    }
+
+    private TransactionResponse doTransfer(Long sourceId, Long targetId, TransferRequest request) {
+        // Row locks are taken in id order as well, matching the stripe order
+        Account sourceAccount;
+        Account targetAccount;
+        if (sourceId <= targetId) {
+            sourceAccount = findAccountForUpdate(sourceId);
+            targetAccount = findAccountForUpdate(targetId);
+        } else {
+            targetAccount = findAccountForUpdate(targetId);
+            sourceAccount = findAccountForUpdate(sourceId);
+        }
+        
+        List<Transaction> postings = applyTransfer(sourceAccount, targetAccount, request);
+        
+        accountRepository.save(sourceAccount);
+        accountRepository.save(targetAccount);
+        accountResponseCache.evictAfterCommit(List.of(sourceId, targetId));
+        
+        postingWriter.write(postings);
+        monthlySummaryService.recordPostings(postings);
+        
+        return TransactionMapper.toResponse(postings.get(0));
     }
 
     @Override
-    public TransactionResponse transfer(TransferRequest request) {
-        Account sourceAccount = findAccountByNumber(request.getSourceAccountNumber());
-        Account targetAccount = findAccountByNumber(request.getTargetAccountNumber());
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BatchTransferResponse transferBatch(List<TransferRequest> requests) {
+        Set<String> accountNumbers = new HashSet<>();
+        for (TransferRequest request : requests) {
+            accountNumbers.add(request.getSourceAccountNumber());
+            accountNumbers.add(request.getTargetAccountNumber());
+        }
+        Map<String, Long> idsByNumber = accountNumberIndex.findIds(accountNumbers);
+        List<Long> accountIds = new ArrayList<>(new TreeSet<>(idsByNumber.values()));
+        
+        return moneyMovementExecutor.execute("transfer-batch", accountIds,
+            () -> doTransferBatch(requests, idsByNumber, accountIds));
+    }
+
+    // All accounts are loaded (and locked) in one ordered IN query; transfers are applied in request order
+    private BatchTransferResponse doTransferBatch(List<TransferRequest> requests,
+                                                  Map<String, Long> idsByNumber,
+                                                  List<Long> accountIds) {
+        List<Account> loaded = accountIds.isEmpty() ? List.of()
+            : moneyMovementExecutor.isPessimistic()
+                ? accountRepository.findAllByIdForUpdate(accountIds)
+                : accountRepository.findAllById(accountIds);
+        Map<Long, Account> accountsById = loaded.stream()
+            .collect(Collectors.toMap(Account::getId, account -> account));
+        
+        Map<Long, Account> touched = new LinkedHashMap<>();
+        List<Transaction> postings = new ArrayList<>(requests.size() * 2);
+        Transaction[] outgoing = new Transaction[requests.size()];
+        String[] errors = new String[requests.size()];
+        
+        for (int i = 0; i < requests.size(); i++) {
+            TransferRequest request = requests.get(i);
+            try {
+                Account sourceAccount = lookupAccount(accountsById, idsByNumber, request.getSourceAccountNumber());
+                Account targetAccount = lookupAccount(accountsById, idsByNumber, request.getTargetAccountNumber());
+                // Checked up front: a failed deposit after the withdrawal would leave the batch half-applied
+                if (!targetAccount.isActive()) {
+                    throw new IllegalStateException("Account is not active");
+                }
+                
+                List<Transaction> transferPostings = applyTransfer(sourceAccount, targetAccount, request);
+                postings.addAll(transferPostings);
+                outgoing[i] = transferPostings.get(0);
+                touched.put(sourceAccount.getId(), sourceAccount);
+                touched.put(targetAccount.getId(), targetAccount);
+            } catch (AccountNotFoundException | IllegalArgumentException | IllegalStateException e) {
+                errors[i] = e.getMessage();
+            }
+        }
         
+        accountRepository.saveAll(touched.values());
+        accountResponseCache.evictAfterCommit(touched.keySet());
+        postingWriter.write(postings);
+        monthlySummaryService.recordPostings(postings);
+        
+        List<BatchTransferItemResult> results = new ArrayList<>(requests.size());
+        int successCount = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            TransferRequest request = requests.get(i);
+            BatchTransferItemResult result = new BatchTransferItemResult();
+            result.setIndex(i);
+            result.setSourceAccountNumber(request.getSourceAccountNumber());
+            result.setTargetAccountNumber(request.getTargetAccountNumber());
+            result.setAmount(request.getAmount());
+            result.setSuccess(outgoing[i] != null);
+            if (outgoing[i] != null) {
+                result.setReferenceNumber(outgoing[i].getReferenceNumber());
+                successCount++;
+            } else {
+                result.setErrorMessage(errors[i]);
+            }
+            results.add(result);
+        }
+        
+        BatchTransferResponse response = new BatchTransferResponse();
+        response.setTotalCount(requests.size());
+        response.setSuccessCount(successCount);
+        response.setFailureCount(requests.size() - successCount);
+        response.setResults(results);
+        return response;
+    }
+
+    // Moves the money and builds the outgoing and incoming postings, in that order
+    private List<Transaction> applyTransfer(Account sourceAccount, Account targetAccount, TransferRequest request) {
         BigDecimal sourceBalanceBefore = sourceAccount.getBalance();
         BigDecimal targetBalanceBefore = targetAccount.getBalance();
         
@@ -161,9 +322,6 @@ public class AccountServiceImpl implements AccountService {
             throw new IllegalStateException("Source account does not support transfers");
         }
         
-        accountRepository.save(sourceAccount);
-        accountRepository.save(targetAccount);
-        
         Transaction sourceTransaction = Transaction.createTransferOut(
             sourceAccount,
             request.getAmount(),
@@ -185,10 +343,17 @@ public class AccountServiceImpl implements AccountService {
             targetTransaction.setDescription(request.getDescription() + " - Transfer from " + sourceAccount.getAccountNumber());
         }
         
-        transactionRepository.save(sourceTransaction);
-        transactionRepository.save(targetTransaction);
-        
-        return mapToTransactionResponse(sourceTransaction);
+        return List.of(sourceTransaction, targetTransaction);
+    }
+
+    private Account lookupAccount(Map<Long, Account> accountsById, Map<String, Long> idsByNumber,
+                                  String accountNumber) {
+        Long id = idsByNumber.get(accountNumber);
+        Account account = id != null ? accountsById.get(id) : null;
+        if (account == null) {
+            throw AccountNotFoundException.withAccountNumber(accountNumber);
+        }
+        return account;
     }
 
     @Override
@@ -196,7 +361,8 @@ public class AccountServiceImpl implements AccountService {
         Account account = findAccountById(accountId);
         account.setActive(false);
         Account savedAccount = accountRepository.save(account);
-        return mapToAccountResponse(savedAccount);
+        accountResponseCache.evictAfterCommit(List.of(accountId));
+        return AccountMapper.toResponse(savedAccount);
     }
 
     @Override
@@ -204,14 +370,15 @@ public class AccountServiceImpl implements AccountService {
         Account account = findAccountById(accountId);
         account.setActive(true);
         Account savedAccount = accountRepository.save(account);
-        return mapToAccountResponse(savedAccount);
+        accountResponseCache.evictAfterCommit(List.of(accountId));
+        return AccountMapper.toResponse(savedAccount);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AccountResponse> getAccountsByCustomerId(Long customerId) {
         return accountRepository.findByCustomerId(customerId).stream()
-            .map(this::mapToAccountResponse)
+            .map(AccountMapper::toResponse)
             .collect(Collectors.toList());
     }
 
@@ -220,8 +387,16 @@ public class AccountServiceImpl implements AccountService {
             .orElseThrow(() -> AccountNotFoundException.withId(id));
     }
 
-    private Account findAccountByNumber(String accountNumber) {
-        return accountRepository.findByAccountNumber(accountNumber)
+    // Pessimistic mode locks the row; optimistic mode relies on the version check at commit
+    private Account findAccountForUpdate(Long id) {
+        Optional<Account> account = moneyMovementExecutor.isPessimistic()
+            ? accountRepository.findByIdForUpdate(id)
+            : accountRepository.findById(id);
+        return account.orElseThrow(() -> AccountNotFoundException.withId(id));
+    }
+
+    private Long resolveAccountId(String accountNumber) {
+        return accountNumberIndex.findId(accountNumber)
             .orElseThrow(() -> AccountNotFoundException.withAccountNumber(accountNumber));
     }
 
@@ -234,54 +409,4 @@ public class AccountServiceImpl implements AccountService {
             return customerRepository.save(customer);
         });
     }
-
-    private String generateAccountNumber() {
-        String accountNumber;
-        do {
-            accountNumber = "ACC" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        } while (accountRepository.existsByAccountNumber(accountNumber));
-        return accountNumber;
-    }
-
-    private AccountResponse mapToAccountResponse(Account account) {
-        AccountResponse response = new AccountResponse();
-        response.setId(account.getId());
-        response.setAccountNumber(account.getAccountNumber());
-        response.setAccountHolderName(account.getAccountHolderName());
-        response.setEmail(account.getEmail());
-        response.setBalance(account.getBalance());
-        response.setAccountType(account.getAccountType());
-        response.setActive(account.isActive());
-        response.setCreatedAt(account.getCreatedAt());
-        response.setUpdatedAt(account.getUpdatedAt());
-        response.setAvailableBalance(account.getBalance());
-
-        if (account instanceof SavingsAccount savings) {
-            response.setMinimumBalance(savings.getMinimumBalance());
-            response.setInterestRate(savings.getInterestRate());
-        } else if (account instanceof CheckingAccount checking) {
-            response.setOverdraftLimit(checking.getOverdraftLimit());
-            response.setMonthlyFee(checking.getMonthlyFee());
-            response.setAvailableBalance(checking.getAvailableBalance());
-        }
-
-        return response;
-    }
-
-    private TransactionResponse mapToTransactionResponse(Transaction transaction) {
-        TransactionResponse response = new TransactionResponse();
-        response.setId(transaction.getId());
-        response.setReferenceNumber(transaction.getReferenceNumber());
-        response.setAccountNumber(transaction.getAccount().getAccountNumber());
-        response.setType(transaction.getType());
-        response.setTypeDisplayName(transaction.getType().getDisplayName());
-        response.setAmount(transaction.getAmount());
-        response.setBalanceBefore(transaction.getBalanceBefore());
-        response.setBalanceAfter(transaction.getBalanceAfter());
-        response.setDescription(transaction.getDescription());
-        response.setRelatedAccountNumber(transaction.getRelatedAccountNumber());
-        response.setTransactionDate(transaction.getTransactionDate());
-        response.setCredit(transaction.getType().isCredit());
-        return response;
-    }
 }
@@ -0,0 +1,95 @@
+package com.banking.service.impl;
+
+import com.banking.batch.ChunkResult;
+import com.banking.batch.ChunkedAccountJobRunner;
+import com.banking.cache.AccountResponseCache;
+import com.banking.dto.BatchJobResponse;
+import com.banking.model.CheckingAccount;
+import com.banking.model.Transaction;
+import com.banking.repository.AccountRepository;
+import com.banking.repository.TransactionRepository;
+import com.banking.service.FeeService;
+import com.banking.service.MonthlySummaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class FeeServiceImpl implements FeeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeeServiceImpl.class);
+    private static final String JOB_NAME = "FEE";
+    private static final String FEE_DESCRIPTION = "Monthly account fee";
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ChunkedAccountJobRunner chunkedAccountJobRunner;
+    private final MonthlySummaryService monthlySummaryService;
+    private final AccountResponseCache accountResponseCache;
+
+    public FeeServiceImpl(AccountRepository accountRepository,
+                          TransactionRepository transactionRepository,
+                          ChunkedAccountJobRunner chunkedAccountJobRunner,
+                          MonthlySummaryService monthlySummaryService,
+                          AccountResponseCache accountResponseCache) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.chunkedAccountJobRunner = chunkedAccountJobRunner;
+        this.monthlySummaryService = monthlySummaryService;
+        this.accountResponseCache = accountResponseCache;
+    }
+
+    // Monthly scheduled fee charge for checking accounts, processed in parallel id-range chunks.
+    // Committed chunks are recorded per month, so each account is charged at most once a month.
+    @Override
+    @Scheduled(cron = "0 0 0 1 * *")
+    public BatchJobResponse applyMonthlyFeesToAllAccounts() {
+        logger.info("Starting monthly fee charge for all checking accounts");
+        return chunkedAccountJobRunner.run(JOB_NAME, YearMonth.now(),
+            accountRepository.findMinCheckingAccountId(),
+            accountRepository.findMaxCheckingAccountId(),
+            this::applyFeesToChunk);
+    }
+
+    @Override
+    public BatchJobResponse triggerFeeApplication() {
+        return applyMonthlyFeesToAllAccounts();
+    }
+
+    // Runs inside the chunk transaction: account updates and FEE inserts are flushed as JDBC batches
+    private ChunkResult applyFeesToChunk(long startId, long endId) {
+        List<CheckingAccount> accounts = accountRepository.findActiveCheckingAccountsInRangeForUpdate(startId, endId);
+        List<Transaction> postings = new ArrayList<>(accounts.size());
+        BigDecimal totalFees = BigDecimal.ZERO;
+        int failed = 0;
+
+        for (CheckingAccount account : accounts) {
+            BigDecimal balanceBefore = account.getBalance();
+            try {
+                BigDecimal fee = account.applyMonthlyFee();
+                if (fee.compareTo(BigDecimal.ZERO) > 0) {
+                    postings.add(Transaction.createFee(account, fee, balanceBefore, account.getBalance(), FEE_DESCRIPTION));
+                    totalFees = totalFees.add(fee);
+                }
+            } catch (IllegalStateException e) {
+                // Fee would exceed the overdraft limit; the balance is left untouched
+                failed++;
+                logger.warn("Could not charge monthly fee to account {}: {}", account.getAccountNumber(), e.getMessage());
+            }
+        }
+
+        transactionRepository.saveAll(postings);
+        monthlySummaryService.recordPostings(postings);
+        accountResponseCache.evictRangeAfterCommit(startId, endId);
+        return new ChunkResult(accounts.size() - failed, failed, totalFees);
+    }
+}
@@ -1,5 +1,12 @@
 package com.banking.service.impl;
 
+import com.banking.batch.ChunkProcessor;
+import com.banking.batch.ChunkResult;
+import com.banking.batch.ChunkedAccountJobRunner;
+import com.banking.batch.InterestPostingMode;
+import com.banking.batch.SetBasedInterestPoster;
+import com.banking.cache.AccountResponseCache;
+import com.banking.dto.BatchJobResponse;
 import com.banking.dto.InterestCalculationResponse;
 import com.banking.exception.AccountNotFoundException;
 import com.banking.model.Account;
@@ -8,15 +15,19 @@ import com.banking.model.Transaction;
 import com.banking.repository.AccountRepository;
 import com.banking.repository.TransactionRepository;
 import com.banking.service.InterestService;
+import com.banking.service.MonthlySummaryService;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,17 +36,33 @@ import java.util.List;
 public class InterestServiceImpl implements InterestService {
 
     private static final Logger logger = LoggerFactory.getLogger(InterestServiceImpl.class);
+    private static final String JOB_NAME = "INTEREST";
 
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final ModelMapper modelMapper;
+    private final ChunkedAccountJobRunner chunkedAccountJobRunner;
+    private final SetBasedInterestPoster setBasedInterestPoster;
+    private final InterestPostingMode postingMode;
+    private final MonthlySummaryService monthlySummaryService;
+    private final AccountResponseCache accountResponseCache;
 
     public InterestServiceImpl(AccountRepository accountRepository, 
                                TransactionRepository transactionRepository,
-                               ModelMapper modelMapper) {
+                               ModelMapper modelMapper,
+                               ChunkedAccountJobRunner chunkedAccountJobRunner,
+                               SetBasedInterestPoster setBasedInterestPoster,
+                               @Value("${banking.interest.mode:entity}") InterestPostingMode postingMode,
+                               MonthlySummaryService monthlySummaryService,
+                               AccountResponseCache accountResponseCache) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
         this.modelMapper = modelMapper;
+        this.chunkedAccountJobRunner = chunkedAccountJobRunner;
+        this.setBasedInterestPoster = setBasedInterestPoster;
+        this.postingMode = postingMode;
+        this.monthlySummaryService = monthlySummaryService;
+        this.accountResponseCache = accountResponseCache;
     }
 
     // Apply interest to a savings account
@@ -58,6 +85,7 @@ public class InterestServiceImpl implements InterestService {
         if (interestAmount.compareTo(BigDecimal.ZERO) > 0) {
             savingsAccount.deposit(interestAmount);
             accountRepository.save(savingsAccount);
+            accountResponseCache.evictAfterCommit(List.of(accountId));
 
             Transaction transaction = Transaction.createInterest(
                 savingsAccount,
@@ -66,6 +94,7 @@ public class InterestServiceImpl implements InterestService {
                 savingsAccount.getBalance()
             );
             transactionRepository.save(transaction);
+            monthlySummaryService.recordPostings(List.of(transaction));
         }
 
         InterestCalculationResponse response = new InterestCalculationResponse();
@@ -103,35 +132,53 @@ public class InterestServiceImpl implements InterestService {
         return response;
     }
 
-    // Monthly scheduled interest application
+    // Monthly scheduled interest application, processed in parallel id-range chunks.
+    // Each chunk commits on its own, so a rerun in the same month resumes where the last one stopped.
     @Override
     @Scheduled(cron = "0 0 0 1 * *")
-    public List<InterestCalculationResponse> applyMonthlyInterestToAllAccounts() {
-        logger.info("Starting monthly interest application for all savings accounts");
-        
-        List<Account> savingsAccounts = accountRepository.findAllSavingsAccounts();
-        List<InterestCalculationResponse> results = new ArrayList<>();
-
-        for (Account account : savingsAccounts) {
-            if (account.isActive() && account instanceof SavingsAccount) {
-                try {
-                    InterestCalculationResponse result = applyInterest(account.getId());
-                    results.add(result);
-                    logger.info("Applied interest of {} to account {}", 
-                        result.getInterestAmount(), result.getAccountNumber());
-                } catch (Exception e) {
-                    logger.error("Failed to apply interest to account {}: {}", 
-                        account.getAccountNumber(), e.getMessage());
-                }
-            }
-        }
-
-        logger.info("Completed monthly interest application. Processed {} accounts", results.size());
-        return results;
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchJobResponse applyMonthlyInterestToAllAccounts() {
+        logger.info("Starting monthly interest application for all savings accounts ({} mode)", postingMode);
+        YearMonth period = YearMonth.now();
+        // Both modes record chunks under the same job name, so switching mode mid-month never double-posts
+        ChunkProcessor posting = postingMode == InterestPostingMode.SET_BASED
+            ? (startId, endId) -> setBasedInterestPoster.postInterest(startId, endId, period)
+            : this::applyInterestToChunk;
+        ChunkProcessor processor = (startId, endId) -> {
+            ChunkResult result = posting.process(startId, endId);
+            accountResponseCache.evictRangeAfterCommit(startId, endId);
+            return result;
+        };
+        return chunkedAccountJobRunner.run(JOB_NAME, period,
+            accountRepository.findMinSavingsAccountId(),
+            accountRepository.findMaxSavingsAccountId(),
+            processor);
     }
 
     @Override
-    public List<InterestCalculationResponse> triggerInterestApplication() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchJobResponse triggerInterestApplication() {
         return applyMonthlyInterestToAllAccounts();
     }
+
+    // Runs inside the chunk transaction: account updates and INTEREST inserts are flushed as JDBC batches
+    private ChunkResult applyInterestToChunk(long startId, long endId) {
+        List<SavingsAccount> accounts = accountRepository.findActiveSavingsAccountsInRangeForUpdate(startId, endId);
+        List<Transaction> postings = new ArrayList<>(accounts.size());
+        BigDecimal totalInterest = BigDecimal.ZERO;
+
+        for (SavingsAccount account : accounts) {
+            BigDecimal balanceBefore = account.getBalance();
+            BigDecimal interestAmount = account.calculateMonthlyInterest();
+            if (interestAmount.compareTo(BigDecimal.ZERO) > 0) {
+                account.deposit(interestAmount);
+                postings.add(Transaction.createInterest(account, interestAmount, balanceBefore, account.getBalance()));
+                totalInterest = totalInterest.add(interestAmount);
+            }
+        }
+
+        transactionRepository.saveAll(postings);
+        monthlySummaryService.recordPostings(postings);
+        return new ChunkResult(accounts.size(), 0, totalInterest);
+    }
 }
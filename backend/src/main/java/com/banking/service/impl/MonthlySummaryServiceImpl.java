@@ -0,0 +1,84 @@
+package com.banking.service.impl;
+
+import com.banking.model.MonthlyAccountSummary;
+import com.banking.model.Transaction;
+import com.banking.repository.MonthlyAccountSummaryRepository;
+import com.banking.service.MonthlySummaryService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class MonthlySummaryServiceImpl implements MonthlySummaryService {
+
+    private final MonthlyAccountSummaryRepository summaryRepository;
+
+    public MonthlySummaryServiceImpl(MonthlyAccountSummaryRepository summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    // Must join the transaction that posts the rows. In pessimistic mode the caller's account locks serialize
+    // writers of a summary row; in optimistic mode the row's version catches concurrent updates and a second
+    // insert of a new month's row fails on its unique key, and MoneyMovementExecutor retries both
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPostings(List<Transaction> postings) {
+        Map<String, List<Transaction>> postingsByPeriod = new LinkedHashMap<>();
+        for (Transaction posting : postings) {
+            postingsByPeriod.computeIfAbsent(periodOf(posting), period -> new ArrayList<>()).add(posting);
+        }
+
+        List<MonthlyAccountSummary> touched = new ArrayList<>();
+        postingsByPeriod.forEach((period, periodPostings) -> {
+            Set<Long> accountIds = periodPostings.stream()
+                .map(posting -> posting.getAccount().getId())
+                .collect(Collectors.toSet());
+            Map<Long, MonthlyAccountSummary> summaries = new HashMap<>();
+            for (MonthlyAccountSummary summary : summaryRepository.findByPeriodAndAccountIdIn(period, accountIds)) {
+                summaries.put(summary.getAccountId(), summary);
+            }
+
+            for (Transaction posting : periodPostings) {
+                MonthlyAccountSummary summary = summaries.computeIfAbsent(posting.getAccount().getId(),
+                    accountId -> new MonthlyAccountSummary(accountId, period, posting.getBalanceBefore()));
+                summary.apply(posting);
+            }
+            touched.addAll(summaries.values());
+        });
+
+        summaryRepository.saveAll(touched);
+    }
+
+    // A month without postings carries the balance over from the nearest month that has them
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MonthlyAccountSummary> getSummary(Long accountId, YearMonth month) {
+        String period = month.toString();
+        Optional<MonthlyAccountSummary> summary = summaryRepository.findByAccountIdAndPeriod(accountId, period);
+        if (summary.isPresent()) {
+            return summary;
+        }
+
+        Optional<MonthlyAccountSummary> previous =
+            summaryRepository.findFirstByAccountIdAndPeriodLessThanOrderByPeriodDesc(accountId, period);
+        if (previous.isPresent()) {
+            return Optional.of(new MonthlyAccountSummary(accountId, period, previous.get().getClosingBalance()));
+        }
+        return summaryRepository.findFirstByAccountIdAndPeriodGreaterThanOrderByPeriodAsc(accountId, period)
+            .map(next -> new MonthlyAccountSummary(accountId, period, next.getOpeningBalance()));
+    }
+
+    private static String periodOf(Transaction posting) {
+        return YearMonth.from(posting.getTransactionDate()).toString();
+    }
+}
@@ -1,23 +1,26 @@
 package com.banking.service.impl;
 
+import com.banking.cache.AccountNumberIndex;
 import com.banking.dto.MonthlyReportResponse;
 import com.banking.dto.TransactionResponse;
 import com.banking.exception.AccountNotFoundException;
 import com.banking.model.Account;
-import com.banking.model.Transaction;
+import com.banking.model.MonthlyAccountSummary;
 import com.banking.model.TransactionType;
 import com.banking.repository.AccountRepository;
 import com.banking.repository.TransactionRepository;
+import com.banking.service.MonthlySummaryService;
 import com.banking.service.ReportService;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -26,13 +29,19 @@ public class ReportServiceImpl implements ReportService {
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final ModelMapper modelMapper;
+    private final MonthlySummaryService monthlySummaryService;
+    private final AccountNumberIndex accountNumberIndex;
 
     public ReportServiceImpl(AccountRepository accountRepository, 
                              TransactionRepository transactionRepository,
-                             ModelMapper modelMapper) {
+                             ModelMapper modelMapper,
+                             MonthlySummaryService monthlySummaryService,
+                             AccountNumberIndex accountNumberIndex) {
         this.accountRepository = accountRepository;
         this.transactionRepository = transactionRepository;
         this.modelMapper = modelMapper;
+        this.monthlySummaryService = monthlySummaryService;
+        this.accountNumberIndex = accountNumberIndex;
     }
 
     // Generate monthly report for an account
@@ -42,81 +51,84 @@ public class ReportServiceImpl implements ReportService {
             .orElseThrow(() -> AccountNotFoundException.withId(accountId));
 
         YearMonth reportMonth = YearMonth.of(year, month);
-        LocalDateTime startDate = reportMonth.atDay(1).atStartOfDay();
-        LocalDateTime endDate = reportMonth.atEndOfMonth().atTime(23, 59, 59);
+        List<TransactionResponse> transactions = transactionRepository.findMonthlyTransactions(accountId,
+            reportMonth.atDay(1).atStartOfDay(), reportMonth.plusMonths(1).atDay(1).atStartOfDay());
 
-        List<Transaction> transactions = transactionRepository
-            .findByAccountIdAndDateRange(accountId, startDate, endDate);
-
-        BigDecimal totalDeposits = sumByType(accountId, TransactionType.DEPOSIT, startDate, endDate);
-        BigDecimal totalWithdrawals = sumByType(accountId, TransactionType.WITHDRAWAL, startDate, endDate);
-        BigDecimal totalTransfersIn = sumByType(accountId, TransactionType.TRANSFER_IN, startDate, endDate);
-        BigDecimal totalTransfersOut = sumByType(accountId, TransactionType.TRANSFER_OUT, startDate, endDate);
-        BigDecimal totalInterest = sumByType(accountId, TransactionType.INTEREST, startDate, endDate);
-        BigDecimal totalFees = sumByType(accountId, TransactionType.FEE, startDate, endDate);
+        // Totals come from the rows already loaded instead of one SUM query per type
+        Map<TransactionType, BigDecimal> totals = new EnumMap<>(TransactionType.class);
+        for (TransactionResponse transaction : transactions) {
+            totals.merge(transaction.getType(), transaction.getAmount(), BigDecimal::add);
+        }
 
         BigDecimal openingBalance = account.getBalance();
         BigDecimal closingBalance = account.getBalance();
 
-        if (!transactions.isEmpty()) {
-            Transaction oldestTransaction = transactions.get(transactions.size() - 1);
+        if (transactions.isEmpty()) {
+            // The balance of a month without postings is carried over from its neighbours
+            Optional<MonthlyAccountSummary> summary = monthlySummaryService.getSummary(accountId, reportMonth);
+            if (summary.isPresent()) {
+                openingBalance = summary.get().getOpeningBalance();
+                closingBalance = summary.get().getClosingBalance();
+            }
+        } else {
+            TransactionResponse oldestTransaction = transactions.get(transactions.size() - 1);
             openingBalance = oldestTransaction.getBalanceBefore();
             
-            Transaction newestTransaction = transactions.get(0);
+            TransactionResponse newestTransaction = transactions.get(0);
             closingBalance = newestTransaction.getBalanceAfter();
         }
 
-        List<TransactionResponse> transactionResponses = transactions.stream()
-            .map(this::mapToTransactionResponse)
-            .collect(Collectors.toList());
-
-        MonthlyReportResponse response = new MonthlyReportResponse();
-        response.setAccountId(account.getId());
-        response.setAccountNumber(account.getAccountNumber());
-        response.setAccountHolderName(account.getAccountHolderName());
-        response.setAccountType(account.getAccountType());
-        response.setReportMonth(reportMonth);
-        response.setOpeningBalance(openingBalance);
-        response.setClosingBalance(closingBalance);
-        response.setTotalDeposits(totalDeposits);
-        response.setTotalWithdrawals(totalWithdrawals);
-        response.setTotalTransfersIn(totalTransfersIn);
-        response.setTotalTransfersOut(totalTransfersOut);
-        response.setTotalInterestEarned(totalInterest);
-        response.setTotalFeesCharged(totalFees);
+        MonthlyReportResponse response = createReport(account, reportMonth, openingBalance, closingBalance);
+        response.setTotalDeposits(totals.getOrDefault(TransactionType.DEPOSIT, BigDecimal.ZERO));
+        response.setTotalWithdrawals(totals.getOrDefault(TransactionType.WITHDRAWAL, BigDecimal.ZERO));
+        response.setTotalTransfersIn(totals.getOrDefault(TransactionType.TRANSFER_IN, BigDecimal.ZERO));
+        response.setTotalTransfersOut(totals.getOrDefault(TransactionType.TRANSFER_OUT, BigDecimal.ZERO));
+        response.setTotalInterestEarned(totals.getOrDefault(TransactionType.INTEREST, BigDecimal.ZERO));
+        response.setTotalFeesCharged(totals.getOrDefault(TransactionType.FEE, BigDecimal.ZERO));
         response.setTransactionCount(transactions.size());
-        response.setTransactions(transactionResponses);
+        response.setTransactions(transactions);
         return response;
     }
 
+    // Generate monthly totals only, read from the maintained summary row instead of the transactions
     @Override
-    public MonthlyReportResponse generateMonthlyReportByAccountNumber(String accountNumber, int year, int month) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-            .orElseThrow(() -> AccountNotFoundException.withAccountNumber(accountNumber));
-        return generateMonthlyReport(account.getId(), year, month);
+    public MonthlyReportResponse generateMonthlySummary(Long accountId, int year, int month) {
+        Account account = accountRepository.findById(accountId)
+            .orElseThrow(() -> AccountNotFoundException.withId(accountId));
+
+        YearMonth reportMonth = YearMonth.of(year, month);
+        MonthlyAccountSummary summary = monthlySummaryService.getSummary(accountId, reportMonth)
+            .orElseGet(() -> new MonthlyAccountSummary(accountId, reportMonth.toString(), account.getBalance()));
+
+        MonthlyReportResponse response = createReport(account, reportMonth,
+            summary.getOpeningBalance(), summary.getClosingBalance());
+        response.setTotalDeposits(summary.getTotalDeposits());
+        response.setTotalWithdrawals(summary.getTotalWithdrawals());
+        response.setTotalTransfersIn(summary.getTotalTransfersIn());
+        response.setTotalTransfersOut(summary.getTotalTransfersOut());
+        response.setTotalInterestEarned(summary.getTotalInterest());
+        response.setTotalFeesCharged(summary.getTotalFees());
+        response.setTransactionCount(summary.getTransactionCount());
+        return response;
     }
 
-    private BigDecimal sumByType(Long accountId, TransactionType type, 
-            LocalDateTime startDate, LocalDateTime endDate) {
-        BigDecimal sum = transactionRepository.sumAmountByAccountIdAndTypeAndDateRange(
-            accountId, type, startDate, endDate);
-        return sum != null ? sum : BigDecimal.ZERO;
+    @Override
+    public MonthlyReportResponse generateMonthlyReportByAccountNumber(String accountNumber, int year, int month) {
+        Long accountId = accountNumberIndex.findId(accountNumber)
+            .orElseThrow(() -> AccountNotFoundException.withAccountNumber(accountNumber));
+        return generateMonthlyReport(accountId, year, month);
     }
 
-    private TransactionResponse mapToTransactionResponse(Transaction transaction) {
-        TransactionResponse response = new TransactionResponse();
-        response.setId(transaction.getId());
-        response.setReferenceNumber(transaction.getReferenceNumber());
-        response.setAccountNumber(transaction.getAccount().getAccountNumber());
-        response.setType(transaction.getType());
-        response.setTypeDisplayName(transaction.getType().getDisplayName());
-        response.setAmount(transaction.getAmount());
-        response.setBalanceBefore(transaction.getBalanceBefore());
-        response.setBalanceAfter(transaction.getBalanceAfter());
-        response.setDescription(transaction.getDescription());
-        response.setRelatedAccountNumber(transaction.getRelatedAccountNumber());
-        response.setTransactionDate(transaction.getTransactionDate());
-        response.setCredit(transaction.getType().isCredit());
+    private MonthlyReportResponse createReport(Account account, YearMonth reportMonth,
+            BigDecimal openingBalance, BigDecimal closingBalance) {
+        MonthlyReportResponse response = new MonthlyReportResponse();
+        response.setAccountId(account.getId());
+        response.setAccountNumber(account.getAccountNumber());
+        response.setAccountHolderName(account.getAccountHolderName());
+        response.setAccountType(account.getAccountType());
+        response.setReportMonth(reportMonth);
+        response.setOpeningBalance(openingBalance);
+        response.setClosingBalance(closingBalance);
         return response;
     }
 }
@@ -0,0 +1,140 @@
+package com.banking.service.impl;
+
+import com.banking.exception.AccountNotFoundException;
+import com.banking.exception.CustomerNotFoundException;
+import com.banking.export.ExportFormat;
+import com.banking.mapper.TransactionMapper;
+import com.banking.model.Transaction;
+import com.banking.repository.AccountRepository;
+import com.banking.repository.CustomerRepository;
+import com.banking.repository.TransactionRepository;
+import com.banking.service.TransactionExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Writes transaction history straight from a database cursor to the response, one row at a time,
+// so memory use does not depend on how many transactions an account has
+@Service
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    private static final String CSV_HEADER = "reference_number,account_number,type,amount,balance_before," +
+        "balance_after,description,related_account_number,transaction_date";
+
+    private final AccountRepository accountRepository;
+    private final CustomerRepository customerRepository;
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TransactionExportServiceImpl(AccountRepository accountRepository,
+                                        CustomerRepository customerRepository,
+                                        TransactionRepository transactionRepository,
+                                        ObjectMapper objectMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.customerRepository = customerRepository;
+        this.transactionRepository = transactionRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // Existence is checked up front so a missing account is still a 404 before streaming starts
+    @Override
+    public StreamingResponseBody exportAccountTransactions(Long accountId, ExportFormat format) {
+        if (!accountRepository.existsById(accountId)) {
+            throw AccountNotFoundException.withId(accountId);
+        }
+        return out -> export(() -> transactionRepository.streamByAccountId(accountId), format, out);
+    }
+
+    @Override
+    public StreamingResponseBody exportCustomerTransactions(Long customerId, ExportFormat format) {
+        if (!customerRepository.existsById(customerId)) {
+            throw CustomerNotFoundException.withId(customerId);
+        }
+        return out -> export(() -> transactionRepository.streamByCustomerId(customerId), format, out);
+    }
+
+    // Runs on the async request thread; the cursor lives exactly as long as this transaction
+    private void export(Supplier<Stream<Transaction>> query, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Transaction> transactions = query.get()) {
+                    if (format == ExportFormat.CSV) {
+                        writer.write(CSV_HEADER);
+                        writer.write('\n');
+                    }
+                    Iterator<Transaction> iterator = transactions.iterator();
+                    while (iterator.hasNext()) {
+                        Transaction transaction = iterator.next();
+                        if (format == ExportFormat.CSV) {
+                            writeCsvRow(writer, transaction);
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(TransactionMapper.toResponse(transaction)));
+                        }
+                        writer.write('\n');
+                        // Written rows are dropped from the persistence context so it does not grow with the export
+                        entityManager.detach(transaction);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, Transaction transaction) throws IOException {
+        writer.write(csv(transaction.getReferenceNumber()));
+        writer.write(',');
+        writer.write(csv(transaction.getAccount().getAccountNumber()));
+        writer.write(',');
+        writer.write(transaction.getType().name());
+        writer.write(',');
+        writer.write(transaction.getAmount().toPlainString());
+        writer.write(',');
+        writer.write(transaction.getBalanceBefore().toPlainString());
+        writer.write(',');
+        writer.write(transaction.getBalanceAfter().toPlainString());
+        writer.write(',');
+        writer.write(csv(transaction.getDescription()));
+        writer.write(',');
+        writer.write(csv(transaction.getRelatedAccountNumber()));
+        writer.write(',');
+        writer.write(transaction.getTransactionDate().toString());
+    }
+
+    // RFC 4180 quoting: only fields containing a separator, quote or line break are quoted
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
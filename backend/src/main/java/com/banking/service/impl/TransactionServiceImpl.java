@@ -1,83 +1,118 @@
 package com.banking.service.impl;
 
+import com.banking.dto.CursorPage;
 import com.banking.dto.TransactionResponse;
 import com.banking.exception.AccountNotFoundException;
-import com.banking.model.Transaction;
+import com.banking.exception.CustomerNotFoundException;
+import com.banking.mapper.TransactionMapper;
 import com.banking.model.TransactionType;
 import com.banking.repository.AccountRepository;
+import com.banking.repository.CustomerRepository;
 import com.banking.repository.TransactionRepository;
+import com.banking.service.TransactionCursor;
 import com.banking.service.TransactionService;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final CustomerRepository customerRepository;
     private final ModelMapper modelMapper;
 
     public TransactionServiceImpl(TransactionRepository transactionRepository, 
                                   AccountRepository accountRepository,
+                                  CustomerRepository customerRepository,
                                   ModelMapper modelMapper) {
         this.transactionRepository = transactionRepository;
         this.accountRepository = accountRepository;
+        this.customerRepository = customerRepository;
         this.modelMapper = modelMapper;
     }
 
     @Override
     public List<TransactionResponse> getTransactionsByAccountId(Long accountId) {
         validateAccountExists(accountId);
-        return transactionRepository.findByAccountIdOrderByTransactionDateDesc(accountId).stream()
-            .map(this::mapToTransactionResponse)
-            .collect(Collectors.toList());
+        return transactionRepository.findByAccountIdOrderByTransactionDateDesc(accountId);
     }
 
     @Override
     public Page<TransactionResponse> getTransactionsByAccountId(Long accountId, Pageable pageable) {
         validateAccountExists(accountId);
-        return transactionRepository.findByAccountId(accountId, pageable)
-            .map(this::mapToTransactionResponse);
+        return transactionRepository.findByAccountId(accountId, pageable);
+    }
+
+    @Override
+    public CursorPage<TransactionResponse> getTransactionsByAccountId(Long accountId, String cursor, int size) {
+        validateAccountExists(accountId);
+        Limit limit = pageLimit(size);
+        List<TransactionResponse> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepository.findFirstPageByAccountId(accountId, limit);
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = transactionRepository.findPageByAccountIdAfter(
+                accountId, position.transactionDate(), position.id(), limit);
+        }
+        return toCursorPage(transactions, limit.max() - 1);
+    }
+
+    @Override
+    public CursorPage<TransactionResponse> getTransactionsByCustomerId(Long customerId, String cursor, int size) {
+        if (!customerRepository.existsById(customerId)) {
+            throw CustomerNotFoundException.withId(customerId);
+        }
+        Limit limit = pageLimit(size);
+        List<TransactionResponse> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepository.findFirstPageByCustomerId(customerId, limit);
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = transactionRepository.findPageByCustomerIdAfter(
+                customerId, position.transactionDate(), position.id(), limit);
+        }
+        return toCursorPage(transactions, limit.max() - 1);
     }
 
     @Override
     public List<TransactionResponse> getTransactionsByDateRange(Long accountId, 
             LocalDateTime startDate, LocalDateTime endDate) {
         validateAccountExists(accountId);
-        return transactionRepository.findByAccountIdAndDateRange(accountId, startDate, endDate).stream()
-            .map(this::mapToTransactionResponse)
-            .collect(Collectors.toList());
+        return transactionRepository.findByAccountIdAndDateRange(accountId, startDate, endDate);
     }
 
     @Override
     public List<TransactionResponse> getTransactionsByType(Long accountId, TransactionType type) {
         validateAccountExists(accountId);
-        return transactionRepository.findByAccountIdAndType(accountId, type).stream()
-            .map(this::mapToTransactionResponse)
-            .collect(Collectors.toList());
+        return transactionRepository.findByAccountIdAndType(accountId, type);
     }
 
     @Override
     public TransactionResponse getTransactionByReference(String referenceNumber) {
         return transactionRepository.findByReferenceNumber(referenceNumber)
-            .map(this::mapToTransactionResponse)
+            .map(TransactionMapper::toResponse)
             .orElse(null);
     }
 
     @Override
     public List<TransactionResponse> getMonthlyTransactions(Long accountId, int year, int month) {
         validateAccountExists(accountId);
-        return transactionRepository.findMonthlyTransactions(accountId, year, month).stream()
-            .map(this::mapToTransactionResponse)
-            .collect(Collectors.toList());
+        YearMonth period = YearMonth.of(year, month);
+        return transactionRepository.findMonthlyTransactions(accountId,
+                period.atDay(1).atStartOfDay(), period.plusMonths(1).atDay(1).atStartOfDay());
     }
 
     @Override
@@ -88,9 +123,30 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public List<TransactionResponse> getTransactionsByCustomerId(Long customerId) {
-        return transactionRepository.findByCustomerId(customerId).stream()
-            .map(this::mapToTransactionResponse)
-            .collect(Collectors.toList());
+        return transactionRepository.findByCustomerId(customerId);
+    }
+
+    // One extra row is fetched to tell whether another page follows
+    private Limit pageLimit(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return Limit.of(size + 1);
+    }
+
+    private CursorPage<TransactionResponse> toCursorPage(List<TransactionResponse> transactions, int size) {
+        boolean hasMore = transactions.size() > size;
+        List<TransactionResponse> pageItems = hasMore ? transactions.subList(0, size) : transactions;
+
+        CursorPage<TransactionResponse> page = new CursorPage<>();
+        page.setItems(pageItems);
+        page.setSize(pageItems.size());
+        page.setHasMore(hasMore);
+        if (hasMore) {
+            TransactionResponse last = pageItems.get(pageItems.size() - 1);
+            page.setNextCursor(new TransactionCursor(last.getTransactionDate(), last.getId()).encode());
+        }
+        return page;
     }
 
     private void validateAccountExists(Long accountId) {
@@ -98,21 +154,4 @@ public class TransactionServiceImpl implements TransactionService {
             throw AccountNotFoundException.withId(accountId);
         }
     }
-
-    private TransactionResponse mapToTransactionResponse(Transaction transaction) {
-        TransactionResponse response = new TransactionResponse();
-        response.setId(transaction.getId());
-        response.setReferenceNumber(transaction.getReferenceNumber());
-        response.setAccountNumber(transaction.getAccount().getAccountNumber());
-        response.setType(transaction.getType());
-        response.setTypeDisplayName(transaction.getType().getDisplayName());
-        response.setAmount(transaction.getAmount());
-        response.setBalanceBefore(transaction.getBalanceBefore());
-        response.setBalanceAfter(transaction.getBalanceAfter());
-        response.setDescription(transaction.getDescription());
-        response.setRelatedAccountNumber(transaction.getRelatedAccountNumber());
-        response.setTransactionDate(transaction.getTransactionDate());
-        response.setCredit(transaction.getType().isCredit());
-        return response;
-    }
 }
@@ -0,0 +1,15 @@
+-- Moves accounts.id and transactions.id from IDENTITY columns to pooled sequences (allocationSize = 50).
+-- Run once against an existing database BEFORE starting the new version; otherwise
+-- ddl-auto=update creates the sequences starting at 1 and new ids collide with existing rows.
+
+CREATE SEQUENCE IF NOT EXISTS accounts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS transactions_seq START WITH 1 INCREMENT BY 50;
+
+-- The pooled optimizer treats each sequence value as the upper end of a block of 50 ids;
+-- positioning the sequence at MAX(id) makes the first new block start right after it.
+SELECT setval('accounts_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM accounts), 1));
+SELECT setval('transactions_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM transactions), 1));
+
+-- Hibernate assigns ids itself now
+ALTER TABLE accounts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE transactions ALTER COLUMN id DROP IDENTITY IF EXISTS;
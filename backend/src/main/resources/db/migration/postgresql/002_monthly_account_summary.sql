@@ -0,0 +1,43 @@
+-- Creates monthly_account_summary and backfills it from the existing transactions.
+-- Run once BEFORE starting the new version: the application only maintains the table
+-- incrementally, so months posted before the upgrade would otherwise have no summary row.
+
+CREATE SEQUENCE IF NOT EXISTS monthly_account_summary_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS monthly_account_summary (
+    id                  BIGINT PRIMARY KEY,
+    account_id          BIGINT NOT NULL,
+    period              VARCHAR(7) NOT NULL,
+    opening_balance     NUMERIC(19, 2) NOT NULL,
+    closing_balance     NUMERIC(19, 2) NOT NULL,
+    total_deposits      NUMERIC(19, 2) NOT NULL,
+    total_withdrawals   NUMERIC(19, 2) NOT NULL,
+    total_transfers_in  NUMERIC(19, 2) NOT NULL,
+    total_transfers_out NUMERIC(19, 2) NOT NULL,
+    total_interest      NUMERIC(19, 2) NOT NULL,
+    total_fees          NUMERIC(19, 2) NOT NULL,
+    transaction_count   INTEGER NOT NULL,
+    CONSTRAINT uk_monthly_summary_account_period UNIQUE (account_id, period)
+);
+
+-- Opening balance is the balance before the month's first posting, closing the balance after its last
+INSERT INTO monthly_account_summary (id, account_id, period, opening_balance, closing_balance,
+    total_deposits, total_withdrawals, total_transfers_in, total_transfers_out, total_interest,
+    total_fees, transaction_count)
+SELECT nextval('monthly_account_summary_seq'), s.*
+FROM (
+    SELECT t.account_id,
+           to_char(t.transaction_date, 'YYYY-MM'),
+           (array_agg(t.balance_before ORDER BY t.transaction_date, t.id))[1],
+           (array_agg(t.balance_after ORDER BY t.transaction_date DESC, t.id DESC))[1],
+           COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'DEPOSIT'), 0),
+           COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'WITHDRAWAL'), 0),
+           COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'TRANSFER_IN'), 0),
+           COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'TRANSFER_OUT'), 0),
+           COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'INTEREST'), 0),
+           COALESCE(SUM(t.amount) FILTER (WHERE t.transaction_type = 'FEE'), 0),
+           COUNT(*)
+    FROM transactions t
+    GROUP BY t.account_id, to_char(t.transaction_date, 'YYYY-MM')
+) s
+ON CONFLICT (account_id, period) DO NOTHING;
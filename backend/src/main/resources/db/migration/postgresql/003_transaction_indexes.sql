@@ -0,0 +1,17 @@
+-- Replaces the single-column transaction indexes with composite ones matching the repository queries.
+-- CONCURRENTLY avoids blocking postings while the indexes build; run each statement outside a
+-- transaction block (psql autocommit). ddl-auto=update never drops the old indexes by itself.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_account_date
+    ON transactions (account_id, transaction_date DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_account_type_date
+    ON transactions (account_id, transaction_type, transaction_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transaction_type_date
+    ON transactions (transaction_type, transaction_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_account_customer
+    ON accounts (customer_id);
+
+-- Covered by the leading columns of the composite indexes above
+DROP INDEX CONCURRENTLY IF EXISTS idx_transaction_account;
+DROP INDEX CONCURRENTLY IF EXISTS idx_transaction_date;
+DROP INDEX CONCURRENTLY IF EXISTS idx_transaction_type;
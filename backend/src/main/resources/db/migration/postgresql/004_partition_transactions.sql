@@ -0,0 +1,66 @@
+-- Converts transactions into a table range-partitioned by transaction_date, one partition per month.
+-- Only needed for the "partitioned" profile; run during a maintenance window with the application
+-- stopped. Later partitions are created ahead of time by TransactionPartitionMaintenance.
+--
+-- PostgreSQL requires every primary key / unique constraint of a partitioned table to contain the
+-- partition key, so the primary key becomes (id, transaction_date) and reference_number is unique
+-- per posting time. Ids still come from transactions_seq and stay unique.
+
+BEGIN;
+
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER INDEX IF EXISTS idx_transaction_account_date RENAME TO idx_transaction_account_date_unpartitioned;
+ALTER INDEX IF EXISTS idx_transaction_account_type_date RENAME TO idx_transaction_account_type_date_unpartitioned;
+ALTER INDEX IF EXISTS idx_transaction_type_date RENAME TO idx_transaction_type_date_unpartitioned;
+
+CREATE TABLE transactions (
+    id                     BIGINT NOT NULL,
+    account_id             BIGINT NOT NULL REFERENCES accounts (id),
+    transaction_type       VARCHAR(20) NOT NULL CHECK (transaction_type IN
+                               ('DEPOSIT', 'WITHDRAWAL', 'TRANSFER_IN', 'TRANSFER_OUT', 'INTEREST', 'FEE')),
+    amount                 NUMERIC(15, 2) NOT NULL,
+    balance_before         NUMERIC(15, 2) NOT NULL,
+    balance_after          NUMERIC(15, 2) NOT NULL,
+    description            VARCHAR(500),
+    related_account_number VARCHAR(20),
+    transaction_date       TIMESTAMP(6) NOT NULL,
+    reference_number       VARCHAR(50),
+    PRIMARY KEY (id, transaction_date),
+    UNIQUE (reference_number, transaction_date)
+) PARTITION BY RANGE (transaction_date);
+
+-- Declared on the parent, so every partition gets them
+CREATE INDEX idx_transaction_account_date ON transactions (account_id, transaction_date DESC, id DESC);
+CREATE INDEX idx_transaction_account_type_date ON transactions (account_id, transaction_type, transaction_date);
+CREATE INDEX idx_transaction_type_date ON transactions (transaction_type, transaction_date);
+CREATE INDEX idx_transaction_reference ON transactions (reference_number);
+
+-- Catches rows outside every monthly partition; the maintenance job warns when it is not empty
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- One partition per month from the oldest posting up to three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE(
+        (SELECT MIN(transaction_date) FROM transactions_unpartitioned), now()))::date;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+            'transactions_p' || to_char(month_start, 'YYYY_MM'), month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO transactions (id, account_id, transaction_type, amount, balance_before, balance_after,
+    description, related_account_number, transaction_date, reference_number)
+SELECT id, account_id, transaction_type, amount, balance_before, balance_after,
+    description, related_account_number, transaction_date, reference_number
+FROM transactions_unpartitioned;
+
+COMMIT;
+
+ANALYZE transactions;
+
+-- After verifying the row counts match:
+-- DROP TABLE transactions_unpartitioned;
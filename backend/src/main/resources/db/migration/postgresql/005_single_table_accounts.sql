@@ -0,0 +1,37 @@
+-- Moves the account hierarchy from JOINED (accounts + savings_accounts + checking_accounts) to a single
+-- accounts table with an account_type discriminator. Only needed for the "single-table" profile; run it
+-- with the application stopped. The subclass tables are renamed, not dropped, so the JOINED layout can be
+-- restored by renaming them back and dropping the added columns.
+
+BEGIN;
+
+ALTER TABLE accounts
+    ADD COLUMN IF NOT EXISTS account_type    VARCHAR(20),
+    ADD COLUMN IF NOT EXISTS minimum_balance NUMERIC(15, 2),
+    ADD COLUMN IF NOT EXISTS interest_rate   NUMERIC(5, 2),
+    ADD COLUMN IF NOT EXISTS overdraft_limit NUMERIC(15, 2),
+    ADD COLUMN IF NOT EXISTS monthly_fee     NUMERIC(10, 2);
+
+UPDATE accounts a
+SET account_type = 'SAVINGS', minimum_balance = s.minimum_balance, interest_rate = s.interest_rate
+FROM savings_accounts s
+WHERE s.id = a.id;
+
+UPDATE accounts a
+SET account_type = 'CHECKING', overdraft_limit = c.overdraft_limit, monthly_fee = c.monthly_fee
+FROM checking_accounts c
+WHERE c.id = a.id;
+
+-- Fails (and rolls everything back) if an account row has no subclass row
+ALTER TABLE accounts ALTER COLUMN account_type SET NOT NULL;
+
+ALTER TABLE savings_accounts RENAME TO savings_accounts_joined;
+ALTER TABLE checking_accounts RENAME TO checking_accounts_joined;
+
+COMMIT;
+
+ANALYZE accounts;
+
+-- After verifying the application runs on the new layout:
+-- DROP TABLE savings_accounts_joined;
+-- DROP TABLE checking_accounts_joined;
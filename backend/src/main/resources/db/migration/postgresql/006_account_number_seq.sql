@@ -0,0 +1,3 @@
+-- Sequence behind AccountNumberGenerator: each value starts a block of 1000 account number serials
+-- (AccountNumberGenerator.BLOCK_SIZE; the increment must stay equal to it). Run BEFORE starting the new version.
+CREATE SEQUENCE IF NOT EXISTS account_number_seq START WITH 1 INCREMENT BY 1000;
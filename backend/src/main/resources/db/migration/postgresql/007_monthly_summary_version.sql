@@ -0,0 +1,2 @@
+-- Optimistic version of monthly_account_summary rows (MonthlyAccountSummary.version)
+ALTER TABLE monthly_account_summary ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,166 @@
+package com.banking.batch;
+
+import com.banking.dto.BatchJobResponse;
+import com.banking.model.BatchChunk;
+import com.banking.repository.BatchChunkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Chunked Account Job Runner Tests")
+class ChunkedAccountJobRunnerTest {
+
+    @Mock
+    private BatchChunkRepository batchChunkRepository;
+
+    private ExecutorService executor;
+    private ChunkedAccountJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        runner = new ChunkedAccountJobRunner(batchChunkRepository, TransactionOperations.withoutTransaction(), executor,
+            new SimpleMeterRegistry(), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // Tamamlanmış parçalar atlanmalı, hatalı parça bir sonraki çalıştırmaya kalmalı
+    @Test
+    void testCompletedChunksAreSkippedAndFailuresReported() {
+        YearMonth period = YearMonth.of(2026, 10);
+        when(batchChunkRepository.findCompletedChunks("INTEREST", "2026-10"))
+            .thenReturn(List.of(new BatchChunk("INTEREST", "2026-10", 10L, 19L)));
+        Set<Long> processedStarts = ConcurrentHashMap.newKeySet();
+
+        BatchJobResponse response = runner.run("INTEREST", period, 5L, 35L, (startId, endId) -> {
+            processedStarts.add(startId);
+            if (startId == 20L) {
+                throw new IllegalStateException("boom");
+            }
+            return new ChunkResult(3, 1, new BigDecimal("1.50"));
+        });
+
+        assertEquals(Set.of(0L, 20L, 30L), processedStarts);
+        assertEquals(4, response.getTotalChunks());
+        assertEquals(1, response.getSkippedChunks());
+        assertEquals(2, response.getProcessedChunks());
+        assertEquals(1, response.getFailedChunks());
+        assertEquals(6, response.getAccountsProcessed());
+        assertEquals(2, response.getAccountsFailed());
+        assertEquals(new BigDecimal("3.00"), response.getTotalAmount());
+        verify(batchChunkRepository, times(2)).save(any(BatchChunk.class));
+    }
+
+    // Parça boyutu küçülünce tamamlanmış aralık yeniden işlenmemeli
+    @Test
+    void testSmallerChunkSizeOnRerunSkipsCommittedRanges() {
+        List<BatchChunk> committed = recordCommittedChunks();
+        Map<Long, Integer> postings = new ConcurrentHashMap<>();
+        runner.run("INTEREST", YearMonth.of(2026, 10), 0L, 29L, postingTo(postings, 10L));
+
+        runnerWithChunkSize(5).run("INTEREST", YearMonth.of(2026, 10), 0L, 29L, postingTo(postings, null));
+
+        assertPostedOnce(postings, 0, 29);
+        assertEquals(4, committed.size());
+    }
+
+    // Parça boyutu büyüyünce önceki çalıştırmada hata alan aralık atlanmamalı
+    @Test
+    void testLargerChunkSizeOnRerunProcessesFailedRanges() {
+        List<BatchChunk> committed = recordCommittedChunks();
+        Map<Long, Integer> postings = new ConcurrentHashMap<>();
+        runner.run("INTEREST", YearMonth.of(2026, 10), 0L, 39L, postingTo(postings, 10L));
+
+        BatchJobResponse rerun = runnerWithChunkSize(20)
+            .run("INTEREST", YearMonth.of(2026, 10), 0L, 39L, postingTo(postings, null));
+
+        assertPostedOnce(postings, 0, 39);
+        assertEquals(1, rerun.getProcessedChunks());
+        assertEquals(1, rerun.getSkippedChunks());
+        assertEquals(4, committed.size());
+    }
+
+    // Başka bir çalıştırma aynı hesapları işlemişse parça geri alınmalı
+    @Test
+    void testChunkOverlappingAConcurrentRunFails() {
+        when(batchChunkRepository.existsOverlappingChunk("INTEREST", "2026-10", 0L, 9L)).thenReturn(true);
+
+        BatchJobResponse response = runner.run("INTEREST", YearMonth.of(2026, 10), 0L, 9L,
+            (startId, endId) -> new ChunkResult(1, 0, BigDecimal.ONE));
+
+        assertEquals(1, response.getFailedChunks());
+        verify(batchChunkRepository, never()).save(any(BatchChunk.class));
+    }
+
+    // Hesap yoksa hiçbir parça çalışmamalı
+    @Test
+    void testEmptyRangeDoesNothing() {
+        BatchJobResponse response = runner.run("INTEREST", YearMonth.of(2026, 10), null, null,
+            (startId, endId) -> fail("No chunk expected"));
+
+        assertEquals(0, response.getTotalChunks());
+        verifyNoInteractions(batchChunkRepository);
+    }
+
+    private ChunkedAccountJobRunner runnerWithChunkSize(int chunkSize) {
+        return new ChunkedAccountJobRunner(batchChunkRepository, TransactionOperations.withoutTransaction(), executor,
+            new SimpleMeterRegistry(), chunkSize);
+    }
+
+    // Saved chunks are returned by later lookups, like the batch_chunks table would
+    private List<BatchChunk> recordCommittedChunks() {
+        List<BatchChunk> committed = new CopyOnWriteArrayList<>();
+        when(batchChunkRepository.save(any(BatchChunk.class))).thenAnswer(invocation -> {
+            committed.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(batchChunkRepository.findCompletedChunks("INTEREST", "2026-10")).thenAnswer(invocation ->
+            committed.stream().sorted(Comparator.comparing(BatchChunk::getRangeStart)).toList());
+        return committed;
+    }
+
+    // Counts one posting per account id in the chunk; the chunk starting at failingStart throws instead
+    private static ChunkProcessor postingTo(Map<Long, Integer> postings, Long failingStart) {
+        return (startId, endId) -> {
+            if (failingStart != null && startId == failingStart) {
+                throw new IllegalStateException("boom");
+            }
+            for (long id = startId; id <= endId; id++) {
+                postings.merge(id, 1, Integer::sum);
+            }
+            return new ChunkResult((int) (endId - startId + 1), 0, BigDecimal.ZERO);
+        };
+    }
+
+    private static void assertPostedOnce(Map<Long, Integer> postings, long firstId, long lastId) {
+        for (long id = firstId; id <= lastId; id++) {
+            assertEquals(1, postings.get(id), "postings of account " + id);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.banking.batch;
+
+import com.banking.model.Account;
+import com.banking.model.MonthlyAccountSummary;
+import com.banking.model.SavingsAccount;
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+import com.banking.repository.AccountRepository;
+import com.banking.repository.MonthlyAccountSummaryRepository;
+import com.banking.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Differential test: the SQL interest path must post exactly what the Java path would
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Set-Based Interest Posting Tests")
+class SetBasedInterestPosterTest {
+
+    @Autowired
+    private SetBasedInterestPoster setBasedInterestPoster;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MonthlyAccountSummaryRepository summaryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // SQL ile hesaplanan faiz, Java yoluyla birebir aynı olmalı
+    @Test
+    void testSetBasedPostingMatchesJavaCalculation() {
+        List<SavingsAccount> seeded = transactionTemplate.execute(status -> accountRepository.saveAll(seedAccounts()));
+        long startId = seeded.stream().mapToLong(Account::getId).min().orElseThrow();
+        long endId = seeded.stream().mapToLong(Account::getId).max().orElseThrow();
+
+        Map<Long, BigDecimal> expectedInterest = new HashMap<>();
+        Map<Long, BigDecimal> expectedBalance = new HashMap<>();
+        for (SavingsAccount account : reload(seeded)) {
+            BigDecimal interest = account.calculateMonthlyInterest();
+            expectedInterest.put(account.getId(), interest);
+            expectedBalance.put(account.getId(),
+                interest.signum() > 0 ? account.getBalance().add(interest) : account.getBalance());
+        }
+
+        YearMonth period = YearMonth.of(2031, 1);
+        transactionTemplate.execute(status -> setBasedInterestPoster.postInterest(startId, endId, period));
+
+        String prefix = SetBasedInterestPoster.referencePrefix(period);
+        for (SavingsAccount account : reload(seeded)) {
+            Long id = account.getId();
+            assertEquals(expectedBalance.get(id), account.getBalance(), "balance of account " + id);
+
+            Transaction posting = transactionRepository.findByReferenceNumber(prefix + id).orElse(null);
+            MonthlyAccountSummary summary = summaryRepository
+                .findByAccountIdAndPeriod(id, YearMonth.now().toString()).orElse(null);
+            if (expectedInterest.get(id).signum() > 0) {
+                assertNotNull(posting, "posting for account " + id);
+                assertEquals(TransactionType.INTEREST, posting.getType());
+                assertEquals(expectedInterest.get(id), posting.getAmount());
+                assertEquals(expectedBalance.get(id), posting.getBalanceAfter());
+                assertEquals(expectedBalance.get(id).subtract(posting.getAmount()), posting.getBalanceBefore());
+
+                assertNotNull(summary, "summary for account " + id);
+                assertEquals(1, summary.getTransactionCount());
+                assertEquals(expectedInterest.get(id), summary.getTotalInterest());
+                assertEquals(posting.getBalanceBefore(), summary.getOpeningBalance());
+                assertEquals(expectedBalance.get(id), summary.getClosingBalance());
+            } else {
+                assertNull(posting, "no posting expected for account " + id);
+                assertNull(summary, "no summary expected for account " + id);
+            }
+        }
+    }
+
+    // Aynı dönem için tekrar çalıştırılan aralıkta faiz ikinci kez ödenmemeli
+    @Test
+    void testPostingARangeTwiceInOnePeriodPaysOnce() {
+        List<SavingsAccount> seeded = transactionTemplate.execute(status -> accountRepository.saveAll(List.of(
+            new SavingsAccount("RERUN0", "Rerun Test", "rerun@test.com",
+                new BigDecimal("1200.00"), BigDecimal.ZERO, new BigDecimal("2.50")),
+            new SavingsAccount("RERUN1", "Rerun Test", "rerun@test.com",
+                new BigDecimal("2400.00"), BigDecimal.ZERO, new BigDecimal("5.00")))));
+        long startId = seeded.stream().mapToLong(Account::getId).min().orElseThrow();
+        long endId = seeded.stream().mapToLong(Account::getId).max().orElseThrow();
+        YearMonth period = YearMonth.now();
+
+        ChunkResult first = transactionTemplate.execute(status ->
+            setBasedInterestPoster.postInterest(startId, endId, period));
+        ChunkResult second = transactionTemplate.execute(status ->
+            setBasedInterestPoster.postInterest(startId, endId, period));
+
+        assertEquals(new BigDecimal("12.50"), first.totalAmount());
+        assertEquals(0, second.accountsProcessed());
+        assertEquals(0, second.totalAmount().signum());
+        List<SavingsAccount> reloaded = reload(seeded);
+        assertEquals(new BigDecimal("1202.50"), reloaded.get(0).getBalance());
+        assertEquals(new BigDecimal("2410.00"), reloaded.get(1).getBalance());
+        for (SavingsAccount account : reloaded) {
+            assertEquals(1, transactionRepository.findByAccountIdOrderByTransactionDateDesc(account.getId()).size(),
+                "postings of account " + account.getId());
+        }
+    }
+
+    private List<SavingsAccount> reload(List<SavingsAccount> accounts) {
+        return transactionTemplate.execute(status -> accounts.stream()
+            .map(account -> (SavingsAccount) accountRepository.findById(account.getId()).orElseThrow())
+            .toList());
+    }
+
+    private List<SavingsAccount> seedAccounts() {
+        List<SavingsAccount> accounts = new ArrayList<>();
+        // Values that land exactly on a rounding midpoint in one of the two steps
+        String[][] edgeCases = {
+            {"1.00", "6.00"}, {"0.20", "2.50"}, {"100.00", "0.06"}, {"2.00", "3.00"},
+            {"0.00", "2.50"}, {"999999999999.99", "99.99"}, {"12345.67", "2.50"}, {"1.02", "0.50"}
+        };
+        for (String[] edgeCase : edgeCases) {
+            accounts.add(account(accounts.size(), new BigDecimal(edgeCase[0]), new BigDecimal(edgeCase[1])));
+        }
+
+        Random random = new Random(20261018L);
+        for (int i = 0; i < 300; i++) {
+            BigDecimal balance = BigDecimal.valueOf(random.nextLong(0, 100_000_000L), 2);
+            BigDecimal rate = BigDecimal.valueOf(random.nextInt(0, 2_000), 2);
+            accounts.add(account(accounts.size(), balance, rate));
+        }
+        return accounts;
+    }
+
+    private SavingsAccount account(int index, BigDecimal balance, BigDecimal rate) {
+        return new SavingsAccount("DIF" + index, "Differential Test", "differential@test.com",
+            balance, BigDecimal.ZERO, rate);
+    }
+}
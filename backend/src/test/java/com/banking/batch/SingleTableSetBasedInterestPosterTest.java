@@ -0,0 +1,12 @@
+package com.banking.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// Same differential check against the single-table account layout, on its own in-memory database
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:singletable;DB_CLOSE_DELAY=-1")
+@ActiveProfiles({"test", "single-table"})
+@DisplayName("Set-Based Interest Posting Tests (single-table accounts)")
+class SingleTableSetBasedInterestPosterTest extends SetBasedInterestPosterTest {
+}
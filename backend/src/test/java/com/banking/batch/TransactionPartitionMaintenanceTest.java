@@ -0,0 +1,73 @@
+package com.banking.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Transaction Partition Maintenance Tests")
+class TransactionPartitionMaintenanceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    // Cari ay ve sonraki aylar için bölümler önceden oluşturulmalı, arşiv kapalıyken hiçbir bölüm ayrılmamalı
+    @Test
+    void testCreatesPartitionsAheadWithoutArchiving() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+        TransactionPartitionMaintenance maintenance = new TransactionPartitionMaintenance(
+            jdbcTemplate, TransactionOperations.withoutTransaction(), 2, false, 24, "banking_archive");
+
+        maintenance.maintain(YearMonth.of(2024, 11));
+
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(3)).execute(ddl.capture());
+        assertEquals(List.of(
+            "CREATE TABLE IF NOT EXISTS transactions_p2024_11 PARTITION OF transactions " +
+                "FOR VALUES FROM ('2024-11-01') TO ('2024-12-01')",
+            "CREATE TABLE IF NOT EXISTS transactions_p2024_12 PARTITION OF transactions " +
+                "FOR VALUES FROM ('2024-12-01') TO ('2025-01-01')",
+            "CREATE TABLE IF NOT EXISTS transactions_p2025_01 PARTITION OF transactions " +
+                "FOR VALUES FROM ('2025-01-01') TO ('2025-02-01')"), ddl.getAllValues());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    // Saklama süresinden eski bölümler ayrılıp arşiv şemasına taşınmalı, varsayılan bölüm dokunulmadan kalmalı
+    @Test
+    void testArchivesOnlyPartitionsOlderThanRetention() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+            "transactions_default", "transactions_p2022_09", "transactions_p2022_10", "transactions_p2022_11"));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+        TransactionPartitionMaintenance maintenance = new TransactionPartitionMaintenance(
+            jdbcTemplate, TransactionOperations.withoutTransaction(), 0, true, 24, "banking_archive");
+
+        maintenance.maintain(YearMonth.of(2024, 11));
+
+        verify(jdbcTemplate).execute("CREATE SCHEMA IF NOT EXISTS banking_archive");
+        verify(jdbcTemplate).execute("ALTER TABLE transactions DETACH PARTITION transactions_p2022_09");
+        verify(jdbcTemplate).execute("ALTER TABLE transactions_p2022_09 SET SCHEMA banking_archive");
+        verify(jdbcTemplate).execute("ALTER TABLE transactions DETACH PARTITION transactions_p2022_10");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE transactions DETACH PARTITION transactions_p2022_11");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE transactions DETACH PARTITION transactions_default");
+    }
+
+    // DDL'e eklenen şema adı yalnızca düz tanımlayıcı olabilmeli
+    @Test
+    void testRejectsUnsafeArchiveSchemaName() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionPartitionMaintenance(
+            jdbcTemplate, TransactionOperations.withoutTransaction(), 3, true, 24, "archive; DROP TABLE accounts"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.banking.benchmark;
+
+import com.banking.model.Account;
+import com.banking.repository.AccountRepository;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// Bulk account seeding for the benchmarks, in transactions of BATCH_SIZE accounts
+public final class BenchmarkAccounts {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private BenchmarkAccounts() {
+    }
+
+    // Saves accounts 0 to count - 1 built by the factory and returns them with their ids
+    public static <A extends Account> List<A> seed(AccountRepository accountRepository,
+                                                   TransactionOperations transactionOperations,
+                                                   int count, IntFunction<A> factory) {
+        List<A> seeded = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            int from = offset;
+            int to = Math.min(count, offset + BATCH_SIZE);
+            seeded.addAll(transactionOperations.execute(status -> {
+                List<A> batch = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    batch.add(factory.apply(i));
+                }
+                return accountRepository.saveAll(batch);
+            }));
+        }
+        return seeded;
+    }
+}
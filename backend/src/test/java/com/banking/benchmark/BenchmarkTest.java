@@ -0,0 +1,31 @@
+package com.banking.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Opt-in integration benchmark, only run with -Dbenchmark=true. Every annotated class gets a fresh in-memory
+// database of its own, so seeded rows never reach the shared test database or another benchmark, and the
+// context is closed afterwards. Statement and debug logging of the test profile are off, as is H2's reuse of
+// results for repeated identical queries; either would distort the timings. Extra properties go in
+// @TestPropertySource, which takes precedence over the ones set here.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bench-${random.uuid};DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.banking=INFO"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DirtiesContext
+public @interface BenchmarkTest {
+}
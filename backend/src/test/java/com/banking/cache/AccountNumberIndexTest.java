@@ -0,0 +1,82 @@
+package com.banking.cache;
+
+import com.banking.repository.AccountNumberView;
+import com.banking.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Account Number Index Tests")
+class AccountNumberIndexTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private AccountNumberIndex accountNumberIndex;
+
+    @BeforeEach
+    void setUp() {
+        accountNumberIndex = new AccountNumberIndex(accountRepository, TransactionOperations.withoutTransaction());
+    }
+
+    // Başlangıçta yüklenen ve yeni açılan hesaplar veritabanına gitmeden çözülmeli
+    @Test
+    void testWarmedAndRegisteredNumbersResolveFromMemory() {
+        when(accountRepository.streamAccountNumbers()).thenReturn(Stream.of(view(1L, "ACC1"), view(2L, "ACC2")));
+        accountNumberIndex.warmUp();
+        accountNumberIndex.registerAfterCommit("ACC3", 3L);
+
+        assertEquals(Optional.of(1L), accountNumberIndex.findId("ACC1"));
+        assertEquals(Optional.of(3L), accountNumberIndex.findId("ACC3"));
+        assertEquals(Map.of("ACC1", 1L, "ACC2", 2L), accountNumberIndex.findIds(List.of("ACC1", "ACC2")));
+        verify(accountRepository, never()).findIdByAccountNumber(anyString());
+        verify(accountRepository, never()).findIdsByAccountNumberIn(any());
+    }
+
+    // Bilinmeyen numara bir kez sorgulanıp hatırlanmalı; olmayan hesap indekse eklenmemeli
+    @Test
+    void testMissesFallBackToQueryAndAreRemembered() {
+        when(accountRepository.findIdByAccountNumber("ACC9")).thenReturn(Optional.of(9L));
+        when(accountRepository.findIdByAccountNumber("MISSING")).thenReturn(Optional.empty());
+        when(accountRepository.findIdsByAccountNumberIn(List.of("ACC7", "MISSING")))
+            .thenReturn(List.of(view(7L, "ACC7")));
+
+        assertEquals(Optional.of(9L), accountNumberIndex.findId("ACC9"));
+        assertEquals(Optional.of(9L), accountNumberIndex.findId("ACC9"));
+        assertEquals(Optional.empty(), accountNumberIndex.findId("MISSING"));
+        assertEquals(Map.of("ACC9", 9L, "ACC7", 7L), accountNumberIndex.findIds(List.of("ACC9", "ACC7", "MISSING")));
+        assertEquals(Optional.of(7L), accountNumberIndex.findId("ACC7"));
+
+        verify(accountRepository, times(1)).findIdByAccountNumber("ACC9");
+        verify(accountRepository, never()).findIdByAccountNumber("ACC7");
+    }
+
+    private static AccountNumberView view(Long id, String accountNumber) {
+        return new AccountNumberView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getAccountNumber() {
+                return accountNumber;
+            }
+        };
+    }
+}
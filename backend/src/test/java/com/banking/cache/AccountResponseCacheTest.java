@@ -0,0 +1,173 @@
+package com.banking.cache;
+
+import com.banking.dto.AccountResponse;
+import com.banking.dto.CreateCheckingAccountRequest;
+import com.banking.dto.CreateSavingsAccountRequest;
+import com.banking.dto.DepositRequest;
+import com.banking.dto.TransferRequest;
+import com.banking.exception.AccountNotFoundException;
+import com.banking.service.AccountService;
+import com.banking.service.InterestService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Account Response Cache Tests")
+class AccountResponseCacheTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private InterestService interestService;
+
+    @Autowired
+    private AccountResponseCache accountResponseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Tekrarlanan okuma önbellekten gelmeli; para hareketi ve durum değişikliği sonrası güncel değer okunmalı
+    @Test
+    void testReadsAreCachedAndWritesInvalidate() {
+        AccountResponse checking = createChecking("cache@test.com", "100.00");
+        AccountResponse savings = createSavings("cache@test.com", "1000.00");
+
+        accountService.getAccountById(checking.getId());
+        double hitsBefore = hits();
+        accountService.getAccountById(checking.getId());
+        accountService.getAccountByNumber(checking.getAccountNumber());
+        assertEquals(hitsBefore + 2, hits());
+
+        DepositRequest deposit = new DepositRequest();
+        deposit.setAmount(new BigDecimal("50.00"));
+        accountService.deposit(checking.getId(), deposit);
+        assertBalance("150.00", accountService.getAccountByNumber(checking.getAccountNumber()));
+
+        accountService.getAccountById(savings.getId());
+        TransferRequest transfer = new TransferRequest();
+        transfer.setSourceAccountNumber(savings.getAccountNumber());
+        transfer.setTargetAccountNumber(checking.getAccountNumber());
+        transfer.setAmount(new BigDecimal("25.00"));
+        accountService.transfer(transfer);
+        assertBalance("975.00", accountService.getAccountById(savings.getId()));
+        assertBalance("175.00", accountService.getAccountById(checking.getId()));
+
+        interestService.applyInterest(savings.getId());
+        assertTrue(accountService.getAccountById(savings.getId()).getBalance().compareTo(new BigDecimal("975.00")) > 0);
+
+        accountService.deactivateAccount(checking.getId());
+        assertFalse(accountService.getAccountById(checking.getId()).isActive());
+    }
+
+    // Geri alınan işlem önbelleği boşaltmamalı; eviction yalnızca commit sonrası çalışmalı
+    @Test
+    void testEvictionWaitsForCommit() {
+        AccountResponse account = createChecking("cache-rollback@test.com", "10.00");
+        accountService.getAccountById(account.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            accountResponseCache.evictAfterCommit(List.of(account.getId()));
+            status.setRollbackOnly();
+        });
+        double hitsBefore = hits();
+        accountService.getAccountById(account.getId());
+        assertEquals(hitsBefore + 1, hits());
+    }
+
+    // Olmayan hesap önbelleğe yazılmamalı, her seferinde bulunamadı hatası vermeli
+    @Test
+    void testMissingAccountIsNotCached() {
+        assertThrows(AccountNotFoundException.class, () -> accountService.getAccountById(-5L));
+        assertThrows(AccountNotFoundException.class, () -> accountService.getAccountByNumber("ACC-MISSING"));
+        assertThrows(AccountNotFoundException.class, () -> accountService.getAccountById(-5L));
+    }
+
+    // Yükleme sürerken gelen okuma aynı sonucu beklemeli; yükleme sırasında yapılan eviction eski değeri önbellekte bırakmamalı
+    @Test
+    void testConcurrentLoadIsSharedAndDroppedOnEviction() throws Exception {
+        AccountResponseCache cache = new AccountResponseCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, AccountResponse> slowLoader = id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            awaitQuietly(release);
+            AccountResponse stale = new AccountResponse();
+            stale.setBalance(BigDecimal.ONE);
+            return stale;
+        };
+        FutureTask<AccountResponse> loader = new FutureTask<>(() -> cache.getById(1L, slowLoader));
+        FutureTask<AccountResponse> waiter = new FutureTask<>(() -> cache.getById(1L, slowLoader));
+        new Thread(loader).start();
+        loading.await();
+        Thread waiterThread = new Thread(waiter);
+        waiterThread.start();
+        while (waiterThread.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        cache.evictAfterCommit(List.of(1L));
+        release.countDown();
+
+        assertBalance("1", loader.get());
+        assertBalance("1", waiter.get());
+        assertEquals(1, loads.get());
+
+        AccountResponse fresh = new AccountResponse();
+        fresh.setBalance(BigDecimal.TEN);
+        assertBalance("10", cache.getById(1L, id -> fresh));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AccountResponse createChecking(String email, String balance) {
+        CreateCheckingAccountRequest request = new CreateCheckingAccountRequest();
+        request.setAccountHolderName("Cache Holder");
+        request.setEmail(email);
+        request.setInitialBalance(new BigDecimal(balance));
+        return accountService.createCheckingAccount(request);
+    }
+
+    private AccountResponse createSavings(String email, String balance) {
+        CreateSavingsAccountRequest request = new CreateSavingsAccountRequest();
+        request.setAccountHolderName("Cache Holder");
+        request.setEmail(email);
+        request.setInitialBalance(new BigDecimal(balance));
+        return accountService.createSavingsAccount(request);
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "accounts").tag("result", "hit").functionCounter().count();
+    }
+
+    private static void assertBalance(String expected, AccountResponse account) {
+        assertEquals(0, new BigDecimal(expected).compareTo(account.getBalance()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.banking.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Account Lock Manager Tests")
+class AccountLockManagerTest {
+
+    // Stripe sayısı ikinin kuvvetine yuvarlanmalı
+    @Test
+    void testStripeCountRoundedToPowerOfTwo() {
+        assertEquals(1, new AccountLockManager(1).getStripeCount());
+        assertEquals(16, new AccountLockManager(16).getStripeCount());
+        assertEquals(32, new AccountLockManager(17).getStripeCount());
+        assertThrows(IllegalArgumentException.class, () -> new AccountLockManager(0));
+    }
+
+    // Aynı hesap üzerindeki işlemler sıraya girmeli
+    @Test
+    void testSameAccountOperationsAreSerialized() throws Exception {
+        AccountLockManager lockManager = new AccountLockManager(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        long[] counter = new long[1];
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        lockManager.executeLocked(42L, () -> counter[0]++);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+        assertEquals(80_000L, counter[0]);
+    }
+
+    // Farklı hesaplar birbirini beklememeli
+    @Test
+    void testIndependentAccountsProceedInParallel() throws Exception {
+        AccountLockManager lockManager = new AccountLockManager(64);
+        CountDownLatch bothInside = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> first = executor.submit(() -> lockManager.executeLocked(1L, () -> awaitQuietly(bothInside)));
+            Future<Boolean> second = executor.submit(() -> lockManager.executeLocked(2L, () -> awaitQuietly(bothInside)));
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+            assertTrue(second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Ters sırada kilit isteyen transferler kilitlenmemeli
+    @Test
+    void testOpposingTransfersDoNotDeadlock() throws Exception {
+        AccountLockManager lockManager = new AccountLockManager(64);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> forward = executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    lockManager.executeLocked(List.of(1L, 2L), () -> null);
+                }
+            });
+            Future<?> backward = executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    lockManager.executeLocked(List.of(2L, 1L), () -> null);
+                }
+            });
+            forward.get(30, TimeUnit.SECONDS);
+            backward.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.banking.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Money Movement Executor Tests")
+class MoneyMovementExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    // Çakışma sonrası işlem tekrar denenmeli ve başarılı olmalı
+    @Test
+    void testOptimisticConflictIsRetried() {
+        MoneyMovementExecutor executor = optimisticExecutor(5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute("deposit", List.of(1L), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Account", 1L);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, meterRegistry.counter("banking.account.optimistic.retries", "operation", "deposit").count());
+    }
+
+    // Deneme sınırı aşılınca hata yukarı iletilmeli
+    @Test
+    void testRetriesAreCapped() {
+        MoneyMovementExecutor executor = optimisticExecutor(3);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+            executor.execute("withdraw", List.of(1L), () -> {
+                attempts.incrementAndGet();
+                throw new ObjectOptimisticLockingFailureException("Account", 1L);
+            }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, meterRegistry.counter("banking.account.optimistic.exhausted", "operation", "withdraw").count());
+    }
+
+    // İş kuralı hataları tekrar denenmemeli
+    @Test
+    void testBusinessErrorsAreNotRetried() {
+        MoneyMovementExecutor executor = optimisticExecutor(5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () ->
+            executor.execute("withdraw", List.of(1L), () -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("Account is not active");
+            }));
+
+        assertEquals(1, attempts.get());
+    }
+
+    // Aynı ayın ilk özet satırını iki işlem birden eklerse kaybeden tekrar denenmeli; diğer kısıt ihlalleri denenmemeli
+    @Test
+    void testConcurrentSummaryInsertIsRetried() {
+        MoneyMovementExecutor executor = optimisticExecutor(5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute("deposit", List.of(1L), () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw uniqueViolation("PUBLIC.UK_MONTHLY_SUMMARY_ACCOUNT_PERIOD_INDEX_2 ON PUBLIC.MONTHLY_ACCOUNT_SUMMARY");
+            }
+            return "ok";
+        });
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+
+        attempts.set(0);
+        assertThrows(DataIntegrityViolationException.class, () ->
+            executor.execute("deposit", List.of(1L), () -> {
+                attempts.incrementAndGet();
+                throw uniqueViolation("uk_transactions_reference_number");
+            }));
+        assertEquals(1, attempts.get());
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("Unique index or primary key violation", new SQLException(), constraintName));
+    }
+
+    private MoneyMovementExecutor optimisticExecutor(int maxAttempts) {
+        return new MoneyMovementExecutor(ConcurrencyMode.OPTIMISTIC, new AccountLockManager(16),
+            TransactionOperations.withoutTransaction(), meterRegistry, maxAttempts, 1, 2);
+    }
+}
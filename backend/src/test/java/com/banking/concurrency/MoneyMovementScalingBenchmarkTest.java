@@ -0,0 +1,146 @@
+package com.banking.concurrency;
+
+import com.banking.benchmark.BenchmarkAccounts;
+import com.banking.benchmark.BenchmarkTest;
+import com.banking.dto.DepositRequest;
+import com.banking.dto.TransferRequest;
+import com.banking.model.Account;
+import com.banking.model.CheckingAccount;
+import com.banking.repository.AccountRepository;
+import com.banking.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Throughput of deposits and transfers as threads are added:
+// mvn test -Dtest=MoneyMovementScalingBenchmarkTest -Dbenchmark=true [-Dbenchmark.seconds=3] [-Dbenchmark.threads=16]
+// [-Dbenchmark.warmup-seconds=30]
+// "disjoint" gives every thread its own pair of accounts, so only stripe collisions and the database make them
+// wait and throughput should grow up to the core count; "shared" sends every thread to one pair, which the stripe
+// and row locks serialize
+@BenchmarkTest
+@DisplayName("Money Movement Scaling Benchmark")
+class MoneyMovementScalingBenchmarkTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    private enum Operation {
+        DEPOSIT, TRANSFER
+    }
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // İş parçacığı sayısı arttıkça ayrık hesaplarda verim artmalı; toplam bakiye yapılan yatırımlarla tutarlı kalmalı
+    @Test
+    void measureThroughputByThreadCount() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int maxThreads = Integer.getInteger("benchmark.threads", 2 * cores);
+        Duration duration = Duration.ofSeconds(Long.getLong("benchmark.seconds", 3));
+        Duration warmup = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 30));
+        List<Account> accounts = BenchmarkAccounts.seed(accountRepository, transactionTemplate, 2 * maxThreads + 2,
+            i -> new CheckingAccount("SCALE" + i, "Benchmark Holder", "bench@test.com", INITIAL_BALANCE));
+        List<Account> shared = accounts.subList(2 * maxThreads, 2 * maxThreads + 2);
+        LongAdder deposits = new LongAdder();
+
+        // Throughput keeps rising for tens of seconds while the JIT compiles the service and Hibernate paths; with a
+        // short warm-up the later rows look faster than the first ones whatever their thread count
+        run(Operation.DEPOSIT, accounts, null, maxThreads, warmup.dividedBy(2), deposits);
+        run(Operation.TRANSFER, accounts, null, maxThreads, warmup.dividedBy(2), deposits);
+
+        System.out.printf("%d cores, %d s per run (operations/s)%n", cores, duration.toSeconds());
+        System.out.printf("%8s %16s %16s %16s %16s%n",
+            "threads", "deposit disj.", "deposit shared", "transfer disj.", "transfer shared");
+        for (int threads : threadCounts(maxThreads)) {
+            System.out.printf("%8d %16.0f %16.0f %16.0f %16.0f%n", threads,
+                run(Operation.DEPOSIT, accounts, null, threads, duration, deposits),
+                run(Operation.DEPOSIT, accounts, shared, threads, duration, deposits),
+                run(Operation.TRANSFER, accounts, null, threads, duration, deposits),
+                run(Operation.TRANSFER, accounts, shared, threads, duration, deposits));
+        }
+
+        BigDecimal total = accountRepository.findAllById(accounts.stream().map(Account::getId).toList()).stream()
+            .map(Account::getBalance)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal expected = INITIAL_BALANCE.multiply(BigDecimal.valueOf(accounts.size()))
+            .add(AMOUNT.multiply(BigDecimal.valueOf(deposits.sum())));
+        assertEquals(0, expected.compareTo(total));
+    }
+
+    // Thread t works on accounts 2t and 2t + 1, or on the shared pair when one is given
+    private double run(Operation operation, List<Account> accounts, List<Account> shared, int threads,
+                       Duration duration, LongAdder deposits) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        LongAdder completed = new LongAdder();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                List<Account> pair = shared != null ? shared : accounts.subList(2 * t, 2 * t + 2);
+                workers.add(executor.submit(() -> {
+                    for (long i = 0; System.nanoTime() < deadline; i++) {
+                        Account from = pair.get((int) (i & 1));
+                        Account to = pair.get((int) ((i + 1) & 1));
+                        if (operation == Operation.DEPOSIT) {
+                            accountService.deposit(from.getId(), deposit());
+                            deposits.increment();
+                        } else {
+                            accountService.transfer(transfer(from, to));
+                        }
+                        completed.increment();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return completed.sum() / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static List<Integer> threadCounts(int maxThreads) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    private static DepositRequest deposit() {
+        DepositRequest request = new DepositRequest();
+        request.setAmount(AMOUNT);
+        return request;
+    }
+
+    private static TransferRequest transfer(Account from, Account to) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(from.getAccountNumber());
+        request.setTargetAccountNumber(to.getAccountNumber());
+        request.setAmount(AMOUNT);
+        return request;
+    }
+}
@@ -0,0 +1,157 @@
+package com.banking.journal;
+
+import com.banking.concurrency.ConcurrencyMode;
+import com.banking.config.JournalConfig;
+import com.banking.dto.AccountResponse;
+import com.banking.dto.CreateCheckingAccountRequest;
+import com.banking.dto.DepositRequest;
+import com.banking.dto.TransactionResponse;
+import com.banking.dto.TransferRequest;
+import com.banking.model.TransactionType;
+import com.banking.repository.TransactionRepository;
+import com.banking.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Journal mode against its own in-memory database; the flush interval is long enough that rows only reach
+// the table when a test calls flush()
+@SpringBootTest(properties = {
+    "banking.postings.mode=journal",
+    "banking.postings.journal.flush-interval=1h",
+    "spring.datasource.url=jdbc:h2:mem:journaldb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@ActiveProfiles("test")
+@DisplayName("Journal Flusher Tests")
+class JournalFlusherTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JournalFlusher journalFlusher;
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("journal").toString();
+        registry.add("banking.postings.journal.directory", () -> directory);
+    }
+
+    // Bakiye hemen değişmeli, işlem satırları ise flush sonrası aynı referans numaralarıyla tabloya yazılmalı
+    @Test
+    void testPostingsReachTheTableOnFlush() {
+        AccountResponse source = createAccount("source@journal.test");
+        AccountResponse target = createAccount("target@journal.test");
+        TransactionResponse deposit = deposit(source.getId(), "100.00");
+        TransactionResponse transfer = accountService.transfer(transferRequest(source, target, "40.00"));
+
+        assertEquals(0, new BigDecimal("60.00").compareTo(accountService.getAccountById(source.getId()).getBalance()));
+        assertEquals(0, new BigDecimal("40.00").compareTo(accountService.getAccountById(target.getId()).getBalance()));
+        assertTrue(existing(deposit.getReferenceNumber(), transfer.getReferenceNumber()).isEmpty());
+
+        assertEquals(3, journalFlusher.flush());
+        assertEquals(2, existing(deposit.getReferenceNumber(), transfer.getReferenceNumber()).size());
+        assertEquals(1, transactionRepository.findByAccountIdOrderByTransactionDateDesc(target.getId()).size());
+    }
+
+    // Kaydedilmiş birimler eklenmeli, iptal edilenler atlanmalı; sonucu bilinmeyen birim bakiyeye göre karar verilmeli
+    @Test
+    void testReplayKeepsCommittedAndDiscardsAbortedUnits() {
+        AccountResponse account = createAccount("replay@journal.test");
+        deposit(account.getId(), "50.00");
+        journalFlusher.flush();
+
+        JournalPosting committed = posting(account, "10.00", "20.00");
+        JournalPosting aborted = posting(account, "20.00", "30.00");
+        JournalPosting inDoubtCommitted = posting(account, "30.00", "40.00");
+        JournalPosting inDoubtLost = posting(account, "40.00", "60.00");
+        List<TransactionJournal.Entry> entries = List.of(
+            entry(1_000, JournalRecord.unit(List.of(committed))),
+            entry(1_100, JournalRecord.commit(1_000)),
+            entry(1_200, JournalRecord.unit(List.of(aborted))),
+            entry(1_300, JournalRecord.abort(1_200)),
+            entry(1_400, JournalRecord.unit(List.of(inDoubtCommitted))),
+            entry(1_500, JournalRecord.unit(List.of(inDoubtLost))));
+
+        // The next journaled posting (40.00 before) decides the first in-doubt unit, the current balance
+        // (50.00) the second
+        journalFlusher.replay(entries);
+        List<String> references = List.of(committed.referenceNumber(), aborted.referenceNumber(),
+            inDoubtCommitted.referenceNumber(), inDoubtLost.referenceNumber());
+        assertEquals(Set.of(committed.referenceNumber(), inDoubtCommitted.referenceNumber()),
+            Set.copyOf(existing(references)));
+
+        JournalPosting inDoubtMatching = posting(account, "40.00", "50.00");
+        journalFlusher.replay(List.of(entry(2_000, JournalRecord.unit(List.of(inDoubtMatching)))));
+        journalFlusher.replay(entries);
+        assertEquals(3, existing(committed.referenceNumber(), inDoubtCommitted.referenceNumber(),
+            inDoubtMatching.referenceNumber()).size());
+        assertEquals(4, transactionRepository.findByAccountIdOrderByTransactionDateDesc(account.getId()).size());
+    }
+
+    // Sonucu bilinmeyen birimler hesap kilidine dayanarak çözüldüğü için journal modu iyimser modla başlamamalı
+    @Test
+    void testJournalModeRequiresPessimisticConcurrency() throws IOException {
+        JournalConfig config = new JournalConfig();
+        assertThrows(IllegalStateException.class, () -> config.transactionJournal(
+            Files.createTempDirectory("journal"), DataSize.ofMegabytes(1), ConcurrencyMode.OPTIMISTIC));
+    }
+
+    private AccountResponse createAccount(String email) {
+        CreateCheckingAccountRequest request = new CreateCheckingAccountRequest();
+        request.setAccountHolderName("Journal Holder");
+        request.setEmail(email);
+        return accountService.createCheckingAccount(request);
+    }
+
+    private TransactionResponse deposit(Long accountId, String amount) {
+        DepositRequest request = new DepositRequest();
+        request.setAmount(new BigDecimal(amount));
+        return accountService.deposit(accountId, request);
+    }
+
+    private static TransferRequest transferRequest(AccountResponse source, AccountResponse target, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source.getAccountNumber());
+        request.setTargetAccountNumber(target.getAccountNumber());
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+
+    private static JournalPosting posting(AccountResponse account, String balanceBefore, String balanceAfter) {
+        BigDecimal before = new BigDecimal(balanceBefore);
+        BigDecimal after = new BigDecimal(balanceAfter);
+        return new JournalPosting("JT" + UUID.randomUUID().toString().substring(0, 16), account.getId(),
+            TransactionType.DEPOSIT, after.subtract(before), before, after, null, null, LocalDateTime.now());
+    }
+
+    private static TransactionJournal.Entry entry(long position, JournalRecord record) {
+        return new TransactionJournal.Entry(position, record.encode());
+    }
+
+    private List<String> existing(String... referenceNumbers) {
+        return existing(List.of(referenceNumbers));
+    }
+
+    private List<String> existing(List<String> referenceNumbers) {
+        return transactionRepository.findExistingReferenceNumbers(referenceNumbers);
+    }
+}
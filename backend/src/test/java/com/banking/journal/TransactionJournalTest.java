@@ -0,0 +1,147 @@
+package com.banking.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Transaction Journal Tests")
+class TransactionJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    private Path directory;
+
+    // Yeniden açılışta checkpoint sonrası kayıtlar okunmalı; bekleyen kayıt checkpoint'i geride tutmalı
+    @Test
+    void testReopenReturnsRecordsAfterCheckpoint() throws IOException {
+        TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+        assertTrue(journal.open().isEmpty());
+        long first = journal.append(bytes("first"), true);
+        long second = journal.append(bytes("second"), true);
+        journal.release(first);
+        journal.checkpoint();
+        journal.append(bytes("third"), false);
+        journal.awaitDurable();
+        journal.close();
+
+        TransactionJournal reopened = new TransactionJournal(directory, SEGMENT_SIZE);
+        List<TransactionJournal.Entry> entries = reopened.open();
+        assertEquals(List.of("second", "third"), texts(entries));
+        assertEquals(second, entries.get(0).position());
+    }
+
+    // Çökmede yarım kalan kayıt okunmamalı, sonraki eklemeler onun yerine yazılmalı
+    @Test
+    void testTornTailIsIgnoredAndOverwritten() throws IOException {
+        TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+        journal.open();
+        journal.append(bytes("intact"), false);
+        long torn = journal.append(bytes("torn record"), false);
+        journal.close();
+        try (FileChannel channel = FileChannel.open(onlySegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), torn + 10);
+        }
+
+        TransactionJournal reopened = new TransactionJournal(directory, SEGMENT_SIZE);
+        assertEquals(List.of("intact"), texts(reopened.open()));
+        assertEquals(torn, reopened.append(bytes("next"), false));
+        reopened.close();
+        assertEquals(List.of("intact", "next"), texts(new TransactionJournal(directory, SEGMENT_SIZE).open()));
+    }
+
+    // Dolan segmentten sonrakine geçilmeli; checkpoint geçtikten sonra eski segment silinmeli
+    @Test
+    void testRollsOverSegmentsAndDeletesCheckpointedOnes() throws IOException {
+        TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+        journal.open();
+        byte[] record = new byte[1000];
+        List<Long> positions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            positions.add(journal.append(record, true));
+        }
+        assertEquals(3, segmentCount());
+        positions.subList(0, 8).forEach(journal::release);
+        journal.checkpoint();
+        assertEquals(1, segmentCount());
+        journal.close();
+
+        List<TransactionJournal.Entry> entries = new TransactionJournal(directory, SEGMENT_SIZE).open();
+        assertEquals(positions.subList(8, 10), entries.stream().map(TransactionJournal.Entry::position).toList());
+    }
+
+    // Aynı anda ekleyen iş parçacıkları kalıcılığı beklediğinde hiçbir kayıt kaybolmamalı
+    @Test
+    void testConcurrentAppendsAreAllDurable() throws Exception {
+        int threads = 8;
+        int recordsPerThread = 200;
+        TransactionJournal journal = new TransactionJournal(directory, 64 * 1024);
+        journal.open();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        journal.append(bytes(thread + "-" + i), false);
+                        journal.awaitDurable();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        journal.close();
+
+        Set<String> records = new HashSet<>(texts(new TransactionJournal(directory, 64 * 1024).open()));
+        assertEquals(threads * recordsPerThread, records.size());
+        assertTrue(records.contains("7-199"));
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> texts(List<TransactionJournal.Entry> entries) {
+        return entries.stream().map(entry -> new String(entry.payload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".journal")).findFirst().orElseThrow();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".journal")).count();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.banking.metrics;
+
+import com.banking.exception.CustomerNotFoundException;
+import com.banking.model.Customer;
+import com.banking.model.Transaction;
+import com.banking.repository.CustomerRepository;
+import com.banking.repository.TransactionRepository;
+import com.banking.service.CustomerService;
+import com.banking.service.impl.CustomerServiceImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Metrics Aspect Tests")
+class MetricsAspectTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    // Servis metodları sınıf, metod ve hata türüne göre ayrı zamanlayıcılara yazılmalı
+    @Test
+    void testTimesServiceMethodsByOutcome() {
+        Customer customer = new Customer();
+        customer.setId(1L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.findById(2L)).thenReturn(Optional.empty());
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CustomerServiceImpl(customerRepository));
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        CustomerService customerService = factory.getProxy();
+
+        customerService.getCustomerById(1L);
+        assertThrows(CustomerNotFoundException.class, () -> customerService.getCustomerById(2L));
+
+        Timer succeeded = meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+            .tags("class", "CustomerServiceImpl", "method", "getCustomerById", "exception", "none").timer();
+        Timer failed = meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+            .tags("method", "getCustomerById", "exception", "CustomerNotFoundException").timer();
+        assertEquals(1, succeeded.count());
+        assertEquals(1, failed.count());
+    }
+
+    // Repository sonuçlarının satır sayısı kaydedilmeli; akışlarda sayım kapatıldığında yapılmalı
+    @Test
+    void testRecordsRepositoryRowCounts() {
+        when(customerRepository.findAll()).thenReturn(List.of(new Customer(), new Customer()));
+        when(customerRepository.findById(9L)).thenReturn(Optional.empty());
+        AspectJProxyFactory factory = new AspectJProxyFactory(customerRepository);
+        factory.addInterface(CustomerRepository.class);
+        factory.addAspect(new RepositoryMetricsAspect(meterRegistry));
+        CustomerRepository repository = factory.getProxy();
+
+        repository.findAll();
+        repository.findById(9L);
+
+        DistributionSummary findAll = meterRegistry.get(RepositoryMetricsAspect.METRIC_NAME)
+            .tags("repository", "CustomerRepository", "method", "findAll").summary();
+        DistributionSummary findById = meterRegistry.get(RepositoryMetricsAspect.METRIC_NAME)
+            .tags("repository", "CustomerRepository", "method", "findById").summary();
+        assertEquals(2, findAll.totalAmount());
+        assertEquals(1, findById.count());
+        assertEquals(0, findById.totalAmount());
+    }
+
+    // Akış döndüren sorgularda satırlar, çağıran akışı tüketip kapattığında sayılmalı
+    @Test
+    void testCountsStreamedRowsOnClose() {
+        when(transactionRepository.streamByAccountId(1L)).thenReturn(Stream.of(new Transaction(), new Transaction()));
+        AspectJProxyFactory factory = new AspectJProxyFactory(transactionRepository);
+        factory.addInterface(TransactionRepository.class);
+        factory.addAspect(new RepositoryMetricsAspect(meterRegistry));
+        TransactionRepository repository = factory.getProxy();
+
+        DistributionSummary streamed;
+        try (Stream<Transaction> transactions = repository.streamByAccountId(1L)) {
+            streamed = meterRegistry.get(RepositoryMetricsAspect.METRIC_NAME)
+                .tags("repository", "TransactionRepository", "method", "streamByAccountId").summary();
+            assertEquals(2, transactions.toList().size());
+            assertEquals(0, streamed.count());
+        }
+        assertEquals(1, streamed.count());
+        assertEquals(2, streamed.totalAmount());
+    }
+}
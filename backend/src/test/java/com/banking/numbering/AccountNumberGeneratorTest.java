@@ -0,0 +1,62 @@
+package com.banking.numbering;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Account Number Generator Tests")
+class AccountNumberGeneratorTest {
+
+    private static final String NEXT_VALUE = "select next value for account_number_seq";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    // Her blok için veritabanına yalnızca bir kez gidilmeli, numaralar blok içinde ardışık ve tekil olmalı
+    @Test
+    void testHandsOutBlocksWithOneQueryEach() {
+        when(jdbcTemplate.queryForObject(NEXT_VALUE, Long.class)).thenReturn(1L, 1001L);
+        AccountNumberGenerator generator = new AccountNumberGenerator(jdbcTemplate, NEXT_VALUE);
+
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < AccountNumberGenerator.BLOCK_SIZE + 1; i++) {
+            numbers.add(generator.next());
+        }
+
+        assertEquals(AccountNumberGenerator.BLOCK_SIZE + 1, numbers.size());
+        assertTrue(numbers.contains(AccountNumberGenerator.format(1)));
+        assertTrue(numbers.contains(AccountNumberGenerator.format(1001)));
+        assertTrue(numbers.stream().allMatch(AccountNumberGenerator::isValid));
+        verify(jdbcTemplate, times(2)).queryForObject(NEXT_VALUE, Long.class);
+    }
+
+    // Numara ACC + 12 hane + Luhn kontrol hanesi olmalı; tek hane hatası ve yer değiştirme yakalanmalı
+    @Test
+    void testFormatAndCheckDigit() {
+        String number = AccountNumberGenerator.format(1000);
+        assertEquals("ACC0000000010009", number);
+        assertTrue(AccountNumberGenerator.isValid(number));
+        assertFalse(AccountNumberGenerator.isValid("ACC0000000020009"));
+        assertFalse(AccountNumberGenerator.isValid("ACC0000000001009"));
+        assertFalse(AccountNumberGenerator.isValid("ACC1A2B3C4D"));
+    }
+
+    // Sıra 12 haneyi aşacaksa sessizce kısa/uzun numara üretmek yerine hata vermeli
+    @Test
+    void testRejectsExhaustedSequence() {
+        when(jdbcTemplate.queryForObject(NEXT_VALUE, Long.class)).thenReturn(999_999_999_500L);
+        AccountNumberGenerator generator = new AccountNumberGenerator(jdbcTemplate, NEXT_VALUE);
+
+        assertThrows(IllegalStateException.class, generator::next);
+    }
+}
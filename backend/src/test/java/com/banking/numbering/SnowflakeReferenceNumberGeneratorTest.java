@@ -0,0 +1,93 @@
+package com.banking.numbering;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Snowflake Reference Number Generator Tests")
+class SnowflakeReferenceNumberGeneratorTest {
+
+    private static final long NOW = SnowflakeReferenceNumberGenerator.EPOCH_MILLIS + 86_400_000L;
+
+    // Çok sayıda iş parçacığı aynı anda numara alsa da hiçbir numara tekrarlanmamalı
+    @Test
+    void testNoCollisionsUnderConcurrentLoad() throws Exception {
+        int threads = 8;
+        int idsPerThread = 100_000;
+        SnowflakeReferenceNumberGenerator generator = new SnowflakeReferenceNumberGenerator(7);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    long[] ids = new long[idsPerThread];
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            long[] all = new long[threads * idsPerThread];
+            int offset = 0;
+            for (Future<long[]> result : results) {
+                long[] ids = result.get();
+                for (int i = 1; i < ids.length; i++) {
+                    assertTrue(ids[i] > ids[i - 1], "ids must increase within a thread");
+                }
+                System.arraycopy(ids, 0, all, offset, ids.length);
+                offset += ids.length;
+            }
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                assertNotEquals(all[i - 1], all[i], "duplicate reference id");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Saat durursa milisaniye başına 4096 sınırı aşıldığında sonraki milisaniyeye geçilmeli, saat geri giderse numaralar yine artmalı
+    @Test
+    void testStaysMonotonicWhenClockStallsOrStepsBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeReferenceNumberGenerator generator = new SnowflakeReferenceNumberGenerator(1, clock::get);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        clock.addAndGet(-60_000);
+        assertTrue(generator.nextId() > previous);
+    }
+
+    // Numara sabit uzunlukta olmalı ve düğüm kimliğini taşımalı; farklı düğümler aynı anda farklı numara üretmeli
+    @Test
+    void testFormatAndNodeSeparation() {
+        SnowflakeReferenceNumberGenerator node1 = new SnowflakeReferenceNumberGenerator(1, () -> NOW);
+        SnowflakeReferenceNumberGenerator node2 = new SnowflakeReferenceNumberGenerator(2, () -> NOW);
+
+        String reference = node1.next();
+        assertEquals(22, reference.length());
+        assertTrue(reference.matches("TXN\\d{19}"));
+        assertNotEquals(reference, node2.next());
+        assertEquals("TXN0000000000000000042", SnowflakeReferenceNumberGenerator.format(42));
+
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeReferenceNumberGenerator(1024));
+    }
+}
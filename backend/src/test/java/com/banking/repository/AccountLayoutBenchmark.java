@@ -0,0 +1,77 @@
+package com.banking.repository;
+
+import com.banking.benchmark.BenchmarkAccounts;
+import com.banking.model.Account;
+import com.banking.model.CheckingAccount;
+import com.banking.model.SavingsAccount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Read/write latency of one account table layout; run both subclasses to compare them:
+// mvn test -Dtest='*AccountLayoutBenchmarkTest' -Dbenchmark=true [-Dbenchmark.accounts=100000]
+abstract class AccountLayoutBenchmark {
+
+    private static final int SAMPLES = 2_000;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    protected abstract String layoutName();
+
+    // Yükleme, tekil okuma, güncelleme ve tür sorgusu gecikmeleri karşılaştırma için yazdırılır
+    @Test
+    void measureAccountReadAndWriteLatency() {
+        int accounts = Integer.getInteger("benchmark.accounts", 100_000);
+
+        long insertStart = System.nanoTime();
+        List<Long> ids = BenchmarkAccounts.seed(accountRepository, transactionTemplate, accounts, i -> i % 2 == 0
+                ? new SavingsAccount("BENCH" + i, "Benchmark Holder", "bench@test.com", new BigDecimal("500.00"))
+                : new CheckingAccount("BENCH" + i, "Benchmark Holder", "bench@test.com", new BigDecimal("500.00")))
+            .stream().map(Account::getId).toList();
+        double insertMicros = (System.nanoTime() - insertStart) / 1_000.0 / accounts;
+
+        Random random = new Random(42);
+        double findByIdMillis = medianMillis(() -> ids.get(random.nextInt(ids.size())), id ->
+            transactionTemplate.executeWithoutResult(status -> assertTrue(accountRepository.findById(id).isPresent())));
+        double updateMillis = medianMillis(() -> ids.get(random.nextInt(ids.size())), id ->
+            transactionTemplate.executeWithoutResult(status ->
+                accountRepository.findByIdForUpdate(id).orElseThrow().deposit(BigDecimal.ONE)));
+
+        long scanStart = System.nanoTime();
+        int savings = transactionTemplate.execute(status -> accountRepository.findAllSavingsAccounts().size());
+        double scanMillis = (System.nanoTime() - scanStart) / 1_000_000.0;
+        assertEquals((accounts + 1) / 2, savings);
+
+        System.out.printf("%s layout, %,d accounts: insert %.1f us/account, findById %.3f ms, " +
+            "load + update %.3f ms, all savings accounts %.0f ms%n",
+            layoutName(), accounts, insertMicros, findByIdMillis, updateMillis, scanMillis);
+    }
+
+    private static double medianMillis(LongSupplier nextId, LongConsumer operation) {
+        for (int i = 0; i < SAMPLES / 10; i++) {
+            operation.accept(nextId.getAsLong());
+        }
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            long id = nextId.getAsLong();
+            long start = System.nanoTime();
+            operation.accept(id);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.banking.repository;
+
+import com.banking.benchmark.BenchmarkTest;
+import org.junit.jupiter.api.DisplayName;
+
+@BenchmarkTest
+@DisplayName("Joined Account Layout Benchmark")
+class JoinedAccountLayoutBenchmarkTest extends AccountLayoutBenchmark {
+
+    @Override
+    protected String layoutName() {
+        return "JOINED";
+    }
+}
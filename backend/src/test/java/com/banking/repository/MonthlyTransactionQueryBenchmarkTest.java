@@ -0,0 +1,111 @@
+package com.banking.repository;
+
+import com.banking.benchmark.BenchmarkTest;
+import com.banking.model.CheckingAccount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Latency comparison of the old YEAR()/MONTH() filter and the half-open range used now:
+// mvn test -Dtest=MonthlyTransactionQueryBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=1000000]
+@BenchmarkTest
+@DisplayName("Monthly Transaction Query Benchmark")
+class MonthlyTransactionQueryBenchmarkTest {
+
+    private static final long FIRST_ID = 1_000_000_000_000L;
+    private static final int YEARS_OF_HISTORY = 10;
+
+    private static final String FUNCTION_QUERY = "SELECT * FROM transactions WHERE account_id = ? " +
+        "AND YEAR(transaction_date) = ? AND MONTH(transaction_date) = ? " +
+        "ORDER BY transaction_date DESC, id DESC";
+
+    private static final String RANGE_QUERY = "SELECT * FROM transactions WHERE account_id = ? " +
+        "AND transaction_date >= ? AND transaction_date < ? " +
+        "ORDER BY transaction_date DESC, id DESC";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Aynı ayın işlemleri iki sorguda da aynı olmalı; gecikmeler karşılaştırma için yazdırılır
+    @Test
+    void compareMonthlyQueryLatency() {
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+        Long accountId = accountRepository.save(new CheckingAccount("BENCH000001", "Benchmark Account",
+            "benchmark@test.com", BigDecimal.ZERO)).getId();
+        long seedStart = System.nanoTime();
+        seed(accountId, rows);
+        System.out.printf("Seeded %,d rows in %d s%n", rows, (System.nanoTime() - seedStart) / 1_000_000_000);
+
+        YearMonth month = YearMonth.now().minusYears(YEARS_OF_HISTORY / 2);
+        Timestamp monthStart = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp nextMonthStart = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+
+        int functionRows = jdbcTemplate.queryForList(FUNCTION_QUERY,
+            accountId, month.getYear(), month.getMonthValue()).size();
+        int rangeRows = jdbcTemplate.queryForList(RANGE_QUERY, accountId, monthStart, nextMonthStart).size();
+        assertEquals(functionRows, rangeRows);
+        assertTrue(rangeRows > 0);
+
+        double functionMillis = medianMillis(() -> jdbcTemplate.queryForList(FUNCTION_QUERY,
+            accountId, month.getYear(), month.getMonthValue()));
+        double rangeMillis = medianMillis(() -> jdbcTemplate.queryForList(RANGE_QUERY,
+            accountId, monthStart, nextMonthStart));
+
+        // Counting isolates the predicate: the function form reads the account's whole history
+        String functionCount = FUNCTION_QUERY.replace("SELECT *", "SELECT COUNT(*)").replaceAll(" ORDER BY .*", "");
+        String rangeCount = RANGE_QUERY.replace("SELECT *", "SELECT COUNT(*)").replaceAll(" ORDER BY .*", "");
+        double functionCountMillis = medianMillis(() -> jdbcTemplate.queryForObject(functionCount, Long.class,
+            accountId, month.getYear(), month.getMonthValue()));
+        double rangeCountMillis = medianMillis(() -> jdbcTemplate.queryForObject(rangeCount, Long.class,
+            accountId, monthStart, nextMonthStart));
+
+        System.out.printf("Monthly query over %,d rows (%d in month): YEAR()/MONTH() %.2f ms, range %.2f ms; " +
+            "count only: %.2f ms vs %.2f ms%n",
+            rows, rangeRows, functionMillis, rangeMillis, functionCountMillis, rangeCountMillis);
+    }
+
+    // One busy account with postings spread evenly over the last years
+    private void seed(Long accountId, int rows) {
+        LocalDateTime newest = LocalDateTime.now();
+        long spacingSeconds = YEARS_OF_HISTORY * 365L * 24 * 3600 / rows;
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[] {FIRST_ID + i, accountId, "DEPOSIT", BigDecimal.ONE, BigDecimal.ZERO,
+                BigDecimal.ONE, Timestamp.valueOf(newest.minusSeconds(i * spacingSeconds)), "BENCH" + i});
+            if (batch.size() == 10_000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO transactions (id, account_id, transaction_type, amount, " +
+                    "balance_before, balance_after, transaction_date, reference_number) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static double medianMillis(Runnable query) {
+        for (int i = 0; i < 3; i++) {
+            query.run();
+        }
+        long[] samples = new long[15];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            query.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.banking.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Collects the SQL Hibernate prepares so tests can inspect the statements behind repository calls
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static List<String> drain() {
+        List<String> recorded = List.copyOf(STATEMENTS);
+        STATEMENTS.clear();
+        return recorded;
+    }
+}
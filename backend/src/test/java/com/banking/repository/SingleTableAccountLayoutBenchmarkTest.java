@@ -0,0 +1,16 @@
+package com.banking.repository;
+
+import com.banking.benchmark.BenchmarkTest;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.ActiveProfiles;
+
+@BenchmarkTest
+@ActiveProfiles({"test", "single-table"})
+@DisplayName("Single Table Account Layout Benchmark")
+class SingleTableAccountLayoutBenchmarkTest extends AccountLayoutBenchmark {
+
+    @Override
+    protected String layoutName() {
+        return "SINGLE_TABLE";
+    }
+}
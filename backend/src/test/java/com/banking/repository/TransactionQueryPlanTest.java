@@ -0,0 +1,136 @@
+package com.banking.repository;
+
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs every TransactionRepository query, captures the SQL Hibernate generates and checks its
+// EXPLAIN plan on the embedded database: a plan that falls back to a full table scan fails the build
+@SpringBootTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.banking.repository.RecordingStatementInspector")
+@ActiveProfiles("test")
+@DisplayName("Transaction Query Plan Tests")
+class TransactionQueryPlanTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Her sorgu bir indeks kullanmalı, tam tablo taramasına düşmemeli
+    @Test
+    void testEveryRepositoryQueryUsesAnIndex() throws SQLException {
+        Map<String, Runnable> queries = repositoryQueries();
+
+        Set<String> declared = Arrays.stream(TransactionRepository.class.getDeclaredMethods())
+            .map(Method::getName)
+            .collect(Collectors.toSet());
+        assertEquals(declared, queries.keySet(), "every TransactionRepository query needs a plan check here");
+
+        for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+            RecordingStatementInspector.drain();
+            transactionTemplate.executeWithoutResult(status -> query.getValue().run());
+
+            List<String> selects = RecordingStatementInspector.drain().stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+            assertFalse(selects.isEmpty(), query.getKey() + " issued no query");
+
+            for (String sql : selects) {
+                String plan = explain(sql);
+                assertFalse(plan.contains(".tableScan"), query.getKey() + " scans a whole table:\n" + plan);
+            }
+        }
+    }
+
+    private Map<String, Runnable> repositoryQueries() {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime end = start.plusMonths(1);
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByAccountIdOrderByTransactionDateDesc",
+            () -> transactionRepository.findByAccountIdOrderByTransactionDateDesc(1L));
+        // A later page forces the count query as well
+        queries.put("findByAccountId", () -> transactionRepository.findByAccountId(1L, PageRequest.of(1, 10)));
+        queries.put("findByReferenceNumber", () -> transactionRepository.findByReferenceNumber("TXN1"));
+        queries.put("findByAccountIdAndType",
+            () -> transactionRepository.findByAccountIdAndType(1L, TransactionType.DEPOSIT));
+        queries.put("findByAccountIdAndDateRange",
+            () -> transactionRepository.findByAccountIdAndDateRange(1L, start, end));
+        queries.put("sumAmountByAccountIdAndTypeAndDateRange",
+            () -> transactionRepository.sumAmountByAccountIdAndTypeAndDateRange(1L, TransactionType.FEE, start, end));
+        queries.put("countByAccountIdAndDateRange",
+            () -> transactionRepository.countByAccountIdAndDateRange(1L, start, end));
+        queries.put("findMonthlyTransactions", () -> transactionRepository.findMonthlyTransactions(1L, start, end));
+        queries.put("findInterestTransactionsInRange",
+            () -> transactionRepository.findInterestTransactionsInRange(start, end));
+        queries.put("findFeeTransactionsInRange", () -> transactionRepository.findFeeTransactionsInRange(start, end));
+        queries.put("findByCustomerId", () -> {
+            transactionRepository.findByCustomerId(1L);
+            transactionRepository.findByCustomerId(1L, PageRequest.of(1, 10));
+        });
+        queries.put("findFirstPageByAccountId",
+            () -> transactionRepository.findFirstPageByAccountId(1L, Limit.of(20)));
+        queries.put("findPageByAccountIdAfter",
+            () -> transactionRepository.findPageByAccountIdAfter(1L, end, 100L, Limit.of(20)));
+        queries.put("findFirstPageByCustomerId",
+            () -> transactionRepository.findFirstPageByCustomerId(1L, Limit.of(20)));
+        queries.put("findPageByCustomerIdAfter",
+            () -> transactionRepository.findPageByCustomerIdAfter(1L, end, 100L, Limit.of(20)));
+        queries.put("streamByAccountId", () -> drain(transactionRepository.streamByAccountId(1L)));
+        queries.put("streamByCustomerId", () -> drain(transactionRepository.streamByCustomerId(1L)));
+        queries.put("findExistingReferenceNumbers",
+            () -> transactionRepository.findExistingReferenceNumbers(List.of("TXN1", "TXN2")));
+        queries.put("findBalanceBeforeNextPosting",
+            () -> transactionRepository.findBalanceBeforeNextPosting(1L, start, "TXN1", Limit.of(1)));
+        return queries;
+    }
+
+    private static void drain(Stream<Transaction> transactions) {
+        try (transactions) {
+            transactions.forEach(transaction -> { });
+        }
+    }
+
+    // Parameters are left unbound (NULL): the plan depends on the predicates, not on the values
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+}
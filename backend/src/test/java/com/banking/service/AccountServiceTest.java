@@ -1,14 +1,23 @@
 package com.banking.service;
 
+import com.banking.cache.AccountNumberIndex;
+import com.banking.cache.AccountResponseCache;
+import com.banking.concurrency.AccountLockManager;
+import com.banking.concurrency.ConcurrencyMode;
+import com.banking.concurrency.MoneyMovementExecutor;
 import com.banking.dto.*;
 import com.banking.exception.AccountNotFoundException;
+import com.banking.journal.DirectPostingWriter;
 import com.banking.model.CheckingAccount;
 import com.banking.model.Customer;
 import com.banking.model.SavingsAccount;
+import com.banking.numbering.AccountNumberGenerator;
+import com.banking.repository.AccountNumberView;
 import com.banking.repository.AccountRepository;
 import com.banking.repository.CustomerRepository;
 import com.banking.repository.TransactionRepository;
 import com.banking.service.impl.AccountServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,12 +25,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,13 +50,26 @@ class AccountServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private MonthlySummaryService monthlySummaryService;
+
+    @Mock
+    private AccountNumberGenerator accountNumberGenerator;
+
     private ModelMapper modelMapper;
     private AccountService accountService;
 
     @BeforeEach
     void setUp() {
         modelMapper = new ModelMapper();
-        accountService = new AccountServiceImpl(accountRepository, transactionRepository, customerRepository, modelMapper);
+        accountService = new AccountServiceImpl(accountRepository, new DirectPostingWriter(transactionRepository),
+            customerRepository, modelMapper,
+            new MoneyMovementExecutor(ConcurrencyMode.PESSIMISTIC, new AccountLockManager(16),
+                TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), 1, 0, 0),
+            monthlySummaryService,
+            new AccountResponseCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)),
+            new AccountNumberIndex(accountRepository, TransactionOperations.withoutTransaction()),
+            accountNumberGenerator);
     }
 
     // Birikim hesabı oluşturma testi
@@ -56,7 +82,7 @@ class AccountServiceTest {
         Customer customer = new Customer("Ahmet", "Yilmaz", "ahmet@email.com");
         
         when(customerRepository.findByEmail(anyString())).thenReturn(Optional.of(customer));
-        when(accountRepository.existsByAccountNumber(any())).thenReturn(false);
+        when(accountNumberGenerator.next()).thenReturn("ACC0000000010009");
         when(accountRepository.save(any(SavingsAccount.class))).thenAnswer(i -> i.getArgument(0));
 
         AccountResponse response = accountService.createSavingsAccount(request);
@@ -77,14 +103,14 @@ class AccountServiceTest {
         
         SavingsAccount account = new SavingsAccount("ACC123", "Test", "t@e.com", new BigDecimal("1000.00"));
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(account));
         when(accountRepository.save(any())).thenReturn(account);
 
         TransactionResponse response = accountService.deposit(accountId, request);
 
         assertEquals(new BigDecimal("1500.00"), account.getBalance());
         assertNotNull(response);
-        verify(transactionRepository).save(any());
+        verify(transactionRepository).saveAll(argThat(postings -> ((List<?>) postings).size() == 1));
     }
 
      // Yetersiz bakiye işlemi testi
@@ -96,7 +122,7 @@ class AccountServiceTest {
         
         SavingsAccount account = new SavingsAccount("ACC123", "Test", "t@e.com", new BigDecimal("1000.00"));
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(account));
 
         assertThrows(IllegalStateException.class, () -> accountService.withdraw(accountId, request));
     }
@@ -113,14 +139,65 @@ class AccountServiceTest {
         SavingsAccount source = new SavingsAccount("SRC123", "S", "s@e.com", new BigDecimal("1000.00"));
         SavingsAccount target = new SavingsAccount("TRG456", "R", "r@e.com", new BigDecimal("500.00"));
 
-        when(accountRepository.findByAccountNumber("SRC123")).thenReturn(Optional.of(source));
-        when(accountRepository.findByAccountNumber("TRG456")).thenReturn(Optional.of(target));
+        when(accountRepository.findIdByAccountNumber("SRC123")).thenReturn(Optional.of(1L));
+        when(accountRepository.findIdByAccountNumber("TRG456")).thenReturn(Optional.of(2L));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(source));
+        when(accountRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(target));
 
         accountService.transfer(request);
 
         assertEquals(new BigDecimal("700.00"), source.getBalance());
         assertEquals(new BigDecimal("800.00"), target.getBalance());
-        verify(transactionRepository, times(2)).save(any()); // Hem gelen hem giden başarılı şekilde kaydedilmeli.
+        verify(transactionRepository).saveAll(argThat(postings -> ((List<?>) postings).size() == 2)); // Hem gelen hem giden başarılı şekilde kaydedilmeli.
     }
 
-}
\ No newline at end of file
+    // Toplu transferde hatalı kalemler diğerlerini engellememeli
+    @Test
+    void testTransferBatchReportsPerItemResults() {
+        SavingsAccount source = new SavingsAccount("SRC123", "S", "s@e.com", new BigDecimal("1000.00"));
+        source.setId(1L);
+        SavingsAccount target = new SavingsAccount("TRG456", "R", "r@e.com", new BigDecimal("500.00"));
+        target.setId(2L);
+
+        when(accountRepository.findIdsByAccountNumberIn(any())).thenReturn(List.of(view(1L, "SRC123"), view(2L, "TRG456")));
+        when(accountRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(source, target));
+
+        BatchTransferResponse response = accountService.transferBatch(List.of(
+            transferRequest("SRC123", "TRG456", "300.00"),
+            transferRequest("SRC123", "UNKNOWN", "10.00"),
+            transferRequest("SRC123", "TRG456", "900.00")
+        ));
+
+        assertEquals(3, response.getTotalCount());
+        assertEquals(1, response.getSuccessCount());
+        assertEquals(2, response.getFailureCount());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertFalse(response.getResults().get(2).isSuccess());
+        assertEquals(new BigDecimal("700.00"), source.getBalance());
+        assertEquals(new BigDecimal("800.00"), target.getBalance());
+        verify(transactionRepository).saveAll(argThat(postings -> ((List<?>) postings).size() == 2));
+    }
+
+    private static TransferRequest transferRequest(String source, String target, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSourceAccountNumber(source);
+        request.setTargetAccountNumber(target);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+
+    private static AccountNumberView view(Long id, String accountNumber) {
+        return new AccountNumberView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getAccountNumber() {
+                return accountNumber;
+            }
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.banking.service;
+
+import com.banking.benchmark.BenchmarkTest;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@BenchmarkTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=50")
+@DisplayName("Batched Insert Benchmark")
+class BatchedInsertBenchmarkTest extends InsertBatchingBenchmark {
+
+    @Override
+    protected String modeName() {
+        return "JDBC batch size 50";
+    }
+}
@@ -0,0 +1,101 @@
+package com.banking.service;
+
+import com.banking.batch.ChunkedAccountJobRunner;
+import com.banking.cache.AccountResponseCache;
+import com.banking.dto.BatchJobResponse;
+import com.banking.model.Account;
+import com.banking.model.CheckingAccount;
+import com.banking.repository.AccountRepository;
+import com.banking.repository.BatchChunkRepository;
+import com.banking.repository.TransactionRepository;
+import com.banking.service.impl.FeeServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Reruns the fee job within one month under different chunk sizes; uses its own in-memory database
+// because the job charges every checking account in it
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:feererun;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("Monthly Fee Job Rerun Tests")
+class FeeJobRerunTest {
+
+    private static final int ACCOUNTS = 30;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BatchChunkRepository batchChunkRepository;
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Autowired
+    private AccountResponseCache accountResponseCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("batchJobExecutor")
+    private ExecutorService batchJobExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Parça boyutu değişse de aynı ay içinde her hesaptan yalnızca bir kez ücret kesilmeli
+    @Test
+    void testRerunsWithOtherChunkSizesChargeEachAccountOnce() {
+        List<Account> seeded = transactionTemplate.execute(status -> {
+            List<Account> accounts = new ArrayList<>(ACCOUNTS);
+            for (int i = 0; i < ACCOUNTS; i++) {
+                accounts.add(new CheckingAccount("FEE" + i, "Fee Payer", "fee@test.com", new BigDecimal("100.00")));
+            }
+            return accountRepository.saveAll(accounts);
+        });
+
+        BatchJobResponse first = feeService(10).applyMonthlyFeesToAllAccounts();
+        assertEquals(ACCOUNTS, first.getAccountsProcessed());
+
+        for (int chunkSize : new int[] {4, 25}) {
+            BatchJobResponse rerun = feeService(chunkSize).applyMonthlyFeesToAllAccounts();
+            assertEquals(0, rerun.getAccountsProcessed(), "accounts charged again with chunk size " + chunkSize);
+        }
+
+        for (Account account : seeded) {
+            assertEquals(0, new BigDecimal("90.00").compareTo(
+                accountRepository.findById(account.getId()).orElseThrow().getBalance()),
+                "balance of account " + account.getId());
+            assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE account_id = ? AND transaction_type = 'FEE'",
+                Integer.class, account.getId()), "FEE postings of account " + account.getId());
+        }
+    }
+
+    private FeeService feeService(int chunkSize) {
+        ChunkedAccountJobRunner runner = new ChunkedAccountJobRunner(batchChunkRepository, transactionTemplate,
+            batchJobExecutor, meterRegistry, chunkSize);
+        return new FeeServiceImpl(accountRepository, transactionRepository, runner, monthlySummaryService,
+            accountResponseCache);
+    }
+}
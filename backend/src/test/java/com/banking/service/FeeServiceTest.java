@@ -0,0 +1,94 @@
+package com.banking.service;
+
+import com.banking.batch.ChunkProcessor;
+import com.banking.batch.ChunkResult;
+import com.banking.batch.ChunkedAccountJobRunner;
+import com.banking.cache.AccountResponseCache;
+import com.banking.dto.BatchJobResponse;
+import com.banking.model.CheckingAccount;
+import com.banking.model.Transaction;
+import com.banking.model.TransactionType;
+import com.banking.repository.AccountRepository;
+import com.banking.repository.TransactionRepository;
+import com.banking.service.impl.FeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Fee Service Unit Tests")
+class FeeServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ChunkedAccountJobRunner chunkedAccountJobRunner;
+
+    @Mock
+    private MonthlySummaryService monthlySummaryService;
+
+    private FeeService feeService;
+
+    @BeforeEach
+    void setUp() {
+        feeService = new FeeServiceImpl(accountRepository, transactionRepository, chunkedAccountJobRunner,
+            monthlySummaryService, new AccountResponseCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)));
+    }
+
+    // Ücret kesilemeyen hesap başarısız sayılmalı, diğerlerine FEE kaydı oluşturulmalı
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFeeChunkChargesAccountsAndCountsFailures() {
+        CheckingAccount charged = new CheckingAccount("ACC1", "Fee Payer", "payer@test.com",
+            new BigDecimal("100.00"), new BigDecimal("500.00"), new BigDecimal("5.00"));
+        CheckingAccount overdrawn = new CheckingAccount("ACC2", "Overdrawn", "overdrawn@test.com",
+            new BigDecimal("2.00"), BigDecimal.ZERO, new BigDecimal("5.00"));
+        CheckingAccount feeFree = new CheckingAccount("ACC3", "Fee Free", "free@test.com",
+            new BigDecimal("10.00"), new BigDecimal("500.00"), BigDecimal.ZERO);
+
+        when(accountRepository.findMinCheckingAccountId()).thenReturn(1L);
+        when(accountRepository.findMaxCheckingAccountId()).thenReturn(3L);
+        when(accountRepository.findActiveCheckingAccountsInRangeForUpdate(0L, 999L))
+            .thenReturn(List.of(charged, overdrawn, feeFree));
+
+        ArgumentCaptor<ChunkProcessor> processor = ArgumentCaptor.forClass(ChunkProcessor.class);
+        when(chunkedAccountJobRunner.run(eq("FEE"), any(YearMonth.class), eq(1L), eq(3L), processor.capture()))
+            .thenReturn(new BatchJobResponse());
+
+        feeService.applyMonthlyFeesToAllAccounts();
+        ChunkResult result = processor.getValue().process(0L, 999L);
+
+        assertEquals(2, result.accountsProcessed());
+        assertEquals(1, result.accountsFailed());
+        assertEquals(new BigDecimal("5.00"), result.totalAmount());
+        assertEquals(new BigDecimal("95.00"), charged.getBalance());
+        assertEquals(new BigDecimal("2.00"), overdrawn.getBalance());
+
+        ArgumentCaptor<List<Transaction>> postings = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(postings.capture());
+        assertEquals(1, postings.getValue().size());
+        Transaction posting = postings.getValue().get(0);
+        assertEquals(TransactionType.FEE, posting.getType());
+        assertEquals(new BigDecimal("100.00"), posting.getBalanceBefore());
+        assertEquals(new BigDecimal("95.00"), posting.getBalanceAfter());
+    }
+}
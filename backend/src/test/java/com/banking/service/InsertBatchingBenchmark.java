@@ -0,0 +1,90 @@
+package com.banking.service;
+
+import com.banking.benchmark.BenchmarkAccounts;
+import com.banking.dto.BatchJobResponse;
+import com.banking.dto.BatchTransferResponse;
+import com.banking.dto.TransferRequest;
+import com.banking.model.Account;
+import com.banking.model.CheckingAccount;
+import com.banking.model.SavingsAccount;
+import com.banking.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Insert throughput of batched transfers and the monthly interest run; run both subclasses to compare
+// JDBC batching on and off:
+// mvn test -Dtest='*InsertBenchmarkTest' -Dbenchmark=true [-Dbenchmark.transfers=50000] [-Dbenchmark.accounts=50000]
+abstract class InsertBatchingBenchmark {
+
+    private static final int TRANSFERS_PER_BATCH = 1_000;
+    private static final int TRANSFER_ACCOUNTS = 200;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private InterestService interestService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    protected abstract String modeName();
+
+    // Her transfer iki, her faiz işlemi bir hareket satırı ekler; saniyedeki satır sayısı karşılaştırma için yazdırılır
+    @Test
+    void measureInsertThroughput() {
+        int transfers = Integer.getInteger("benchmark.transfers", 50_000);
+        int savingsAccounts = Integer.getInteger("benchmark.accounts", 50_000);
+
+        List<CheckingAccount> checking = BenchmarkAccounts.seed(accountRepository, transactionTemplate,
+            TRANSFER_ACCOUNTS,
+            i -> new CheckingAccount("XFER" + i, "Benchmark Holder", "bench@test.com", INITIAL_BALANCE));
+        // Warms up the transfer path so the first timed batch does not pay for class loading and JIT
+        accountService.transferBatch(transferBatch(checking, 0, TRANSFERS_PER_BATCH));
+
+        long transferStart = System.nanoTime();
+        for (int offset = 0; offset < transfers; offset += TRANSFERS_PER_BATCH) {
+            int count = Math.min(TRANSFERS_PER_BATCH, transfers - offset);
+            BatchTransferResponse response = accountService.transferBatch(transferBatch(checking, offset, count));
+            assertEquals(count, response.getSuccessCount());
+        }
+        double transferSeconds = (System.nanoTime() - transferStart) / 1e9;
+
+        BenchmarkAccounts.seed(accountRepository, transactionTemplate, savingsAccounts,
+            i -> new SavingsAccount("SAVE" + i, "Benchmark Holder", "bench@test.com", INITIAL_BALANCE));
+        long interestStart = System.nanoTime();
+        BatchJobResponse interest = interestService.applyMonthlyInterestToAllAccounts();
+        double interestSeconds = (System.nanoTime() - interestStart) / 1e9;
+        assertEquals(savingsAccounts, interest.getAccountsProcessed());
+        assertEquals(0, interest.getAccountsFailed());
+
+        System.out.printf("%s: transferBatch %,d transfers in %.1f s (%,.0f postings/s), " +
+            "monthly interest %,d accounts in %.1f s (%,.0f postings/s)%n",
+            modeName(), transfers, transferSeconds, 2 * transfers / transferSeconds,
+            savingsAccounts, interestSeconds, savingsAccounts / interestSeconds);
+    }
+
+    // Transfer n moves one unit from account n to the next one, so every batch touches all accounts
+    private static List<TransferRequest> transferBatch(List<? extends Account> accounts, int offset, int count) {
+        List<TransferRequest> requests = new ArrayList<>(count);
+        for (int i = offset; i < offset + count; i++) {
+            TransferRequest request = new TransferRequest();
+            request.setSourceAccountNumber(accounts.get(i % accounts.size()).getAccountNumber());
+            request.setTargetAccountNumber(accounts.get((i + 1) % accounts.size()).getAccountNumber());
+            request.setAmount(BigDecimal.ONE);
+            requests.add(request);
+        }
+        return requests;
+    }
+}
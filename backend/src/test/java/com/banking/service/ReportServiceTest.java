@@ -0,0 +1,119 @@
+package com.banking.service;
+
+import com.banking.dto.AccountResponse;
+import com.banking.dto.CreateCheckingAccountRequest;
+import com.banking.dto.CreateSavingsAccountRequest;
+import com.banking.dto.DepositRequest;
+import com.banking.dto.MonthlyReportResponse;
+import com.banking.dto.TransferRequest;
+import com.banking.dto.WithdrawRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Report Service Tests")
+class ReportServiceTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private AccountService accountService;
+
+    // Özet tablosundan okunan rapor, işlem listesinden hesaplananla aynı toplamları vermeli
+    @Test
+    void testMonthlySummaryMatchesFullReport() {
+        CreateCheckingAccountRequest checkingRequest = new CreateCheckingAccountRequest();
+        checkingRequest.setAccountHolderName("Report Holder");
+        checkingRequest.setEmail("report@test.com");
+        checkingRequest.setInitialBalance(new BigDecimal("100.00"));
+        AccountResponse checking = accountService.createCheckingAccount(checkingRequest);
+
+        CreateSavingsAccountRequest savingsRequest = new CreateSavingsAccountRequest();
+        savingsRequest.setAccountHolderName("Report Counterparty");
+        savingsRequest.setEmail("counterparty@test.com");
+        savingsRequest.setInitialBalance(new BigDecimal("500.00"));
+        AccountResponse savings = accountService.createSavingsAccount(savingsRequest);
+
+        DepositRequest deposit = new DepositRequest();
+        deposit.setAmount(new BigDecimal("250.00"));
+        accountService.deposit(checking.getId(), deposit);
+
+        WithdrawRequest withdraw = new WithdrawRequest();
+        withdraw.setAmount(new BigDecimal("40.00"));
+        accountService.withdraw(checking.getId(), withdraw);
+
+        TransferRequest transferIn = new TransferRequest();
+        transferIn.setSourceAccountNumber(savings.getAccountNumber());
+        transferIn.setTargetAccountNumber(checking.getAccountNumber());
+        transferIn.setAmount(new BigDecimal("75.50"));
+        accountService.transfer(transferIn);
+
+        TransferRequest transferOut = new TransferRequest();
+        transferOut.setSourceAccountNumber(checking.getAccountNumber());
+        transferOut.setTargetAccountNumber(savings.getAccountNumber());
+        transferOut.setAmount(new BigDecimal("10.25"));
+        accountService.transfer(transferOut);
+
+        YearMonth month = YearMonth.now();
+        MonthlyReportResponse report = reportService.generateMonthlyReport(
+            checking.getId(), month.getYear(), month.getMonthValue());
+        MonthlyReportResponse summary = reportService.generateMonthlySummary(
+            checking.getId(), month.getYear(), month.getMonthValue());
+
+        assertEquals(4, report.getTransactionCount());
+        assertEquals(0, new BigDecimal("250.00").compareTo(report.getTotalDeposits()));
+        assertEquals(0, new BigDecimal("40.00").compareTo(report.getTotalWithdrawals()));
+        assertEquals(0, new BigDecimal("75.50").compareTo(report.getTotalTransfersIn()));
+        assertEquals(0, new BigDecimal("10.25").compareTo(report.getTotalTransfersOut()));
+        assertEquals(0, new BigDecimal("100.00").compareTo(report.getOpeningBalance()));
+        assertEquals(0, new BigDecimal("375.25").compareTo(report.getClosingBalance()));
+
+        assertNull(summary.getTransactions());
+        assertEquals(report.getTransactionCount(), summary.getTransactionCount());
+        assertEquals(0, report.getTotalDeposits().compareTo(summary.getTotalDeposits()));
+        assertEquals(0, report.getTotalWithdrawals().compareTo(summary.getTotalWithdrawals()));
+        assertEquals(0, report.getTotalTransfersIn().compareTo(summary.getTotalTransfersIn()));
+        assertEquals(0, report.getTotalTransfersOut().compareTo(summary.getTotalTransfersOut()));
+        assertEquals(0, report.getTotalInterestEarned().compareTo(summary.getTotalInterestEarned()));
+        assertEquals(0, report.getTotalFeesCharged().compareTo(summary.getTotalFeesCharged()));
+        assertEquals(0, report.getOpeningBalance().compareTo(summary.getOpeningBalance()));
+        assertEquals(0, report.getClosingBalance().compareTo(summary.getClosingBalance()));
+    }
+
+    // Hareketsiz ay, önceki ayın kapanış bakiyesini devralmalı (güncel bakiyeyi değil)
+    @Test
+    void testEmptyMonthCarriesBalanceFromNeighbouringMonths() {
+        CreateCheckingAccountRequest request = new CreateCheckingAccountRequest();
+        request.setAccountHolderName("Carry Over");
+        request.setEmail("carry@test.com");
+        request.setInitialBalance(new BigDecimal("80.00"));
+        AccountResponse account = accountService.createCheckingAccount(request);
+
+        DepositRequest deposit = new DepositRequest();
+        deposit.setAmount(new BigDecimal("20.00"));
+        accountService.deposit(account.getId(), deposit);
+
+        YearMonth nextMonth = YearMonth.now().plusMonths(1);
+        MonthlyReportResponse after = reportService.generateMonthlySummary(
+            account.getId(), nextMonth.getYear(), nextMonth.getMonthValue());
+        assertEquals(0, after.getTransactionCount());
+        assertEquals(0, new BigDecimal("100.00").compareTo(after.getOpeningBalance()));
+        assertEquals(0, new BigDecimal("100.00").compareTo(after.getClosingBalance()));
+
+        YearMonth previousMonth = YearMonth.now().minusMonths(1);
+        MonthlyReportResponse before = reportService.generateMonthlyReport(
+            account.getId(), previousMonth.getYear(), previousMonth.getMonthValue());
+        assertEquals(0, new BigDecimal("80.00").compareTo(before.getOpeningBalance()));
+        assertEquals(0, new BigDecimal("80.00").compareTo(before.getClosingBalance()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.banking.service;
+
+import com.banking.dto.AccountResponse;
+import com.banking.dto.CreateCheckingAccountRequest;
+import com.banking.dto.DepositRequest;
+import com.banking.exception.AccountNotFoundException;
+import com.banking.export.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Transaction Export Service Tests")
+class TransactionExportServiceTest {
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // NDJSON ve CSV çıktısı her işlem için bir satır içermeli, en yeni işlem önce gelmeli
+    @Test
+    void testExportWritesOneLinePerTransaction() throws Exception {
+        CreateCheckingAccountRequest request = new CreateCheckingAccountRequest();
+        request.setAccountHolderName("Export Holder");
+        request.setEmail("export@test.com");
+        AccountResponse account = accountService.createCheckingAccount(request);
+
+        for (int i = 1; i <= 3; i++) {
+            DepositRequest deposit = new DepositRequest();
+            deposit.setAmount(new BigDecimal(i + "0.00"));
+            deposit.setDescription(i == 3 ? "Rent, \"March\"" : "Deposit " + i);
+            accountService.deposit(account.getId(), deposit);
+        }
+
+        String[] ndjson = export(account.getId(), ExportFormat.NDJSON);
+        assertEquals(3, ndjson.length);
+        JsonNode newest = objectMapper.readTree(ndjson[0]);
+        assertEquals(account.getAccountNumber(), newest.get("accountNumber").asText());
+        assertEquals(0, new BigDecimal("30.00").compareTo(newest.get("amount").decimalValue()));
+
+        String[] csv = export(account.getId(), ExportFormat.CSV);
+        assertEquals(4, csv.length);
+        assertTrue(csv[0].startsWith("reference_number,"));
+        assertTrue(csv[1].contains(",DEPOSIT,30.00,"));
+        assertTrue(csv[1].contains(",\"Rent, \"\"March\"\"\","));
+    }
+
+    // Olmayan hesap için akış başlamadan hata verilmeli
+    @Test
+    void testExportOfMissingAccountFailsBeforeStreaming() {
+        assertThrows(AccountNotFoundException.class,
+            () -> transactionExportService.exportAccountTransactions(-1L, ExportFormat.CSV));
+    }
+
+    private String[] export(Long accountId, ExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportService.exportAccountTransactions(accountId, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8).split("\n");
+    }
+}
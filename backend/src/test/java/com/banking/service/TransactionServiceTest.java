@@ -0,0 +1,93 @@
+package com.banking.service;
+
+import com.banking.dto.AccountResponse;
+import com.banking.dto.CreateCheckingAccountRequest;
+import com.banking.dto.CreateSavingsAccountRequest;
+import com.banking.dto.CursorPage;
+import com.banking.dto.DepositRequest;
+import com.banking.dto.TransactionResponse;
+import com.banking.repository.CustomerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Transaction Service Tests")
+class TransactionServiceTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    // İmleçle sayfalama tüm işlemleri tekrarsız ve yeniden eskiye sırayla döndürmeli
+    @Test
+    void testCursorPagesCoverHistoryWithoutGapsOrDuplicates() {
+        CreateCheckingAccountRequest checkingRequest = new CreateCheckingAccountRequest();
+        checkingRequest.setAccountHolderName("Cursor Holder");
+        checkingRequest.setEmail("cursor@test.com");
+        AccountResponse checking = accountService.createCheckingAccount(checkingRequest);
+
+        CreateSavingsAccountRequest savingsRequest = new CreateSavingsAccountRequest();
+        savingsRequest.setAccountHolderName("Cursor Holder");
+        savingsRequest.setEmail("cursor@test.com");
+        AccountResponse savings = accountService.createSavingsAccount(savingsRequest);
+
+        for (int i = 1; i <= 7; i++) {
+            DepositRequest deposit = new DepositRequest();
+            deposit.setAmount(new BigDecimal(i));
+            accountService.deposit(i % 2 == 0 ? savings.getId() : checking.getId(), deposit);
+        }
+
+        List<TransactionResponse> accountHistory = readAll(cursor ->
+            transactionService.getTransactionsByAccountId(checking.getId(), cursor, 3));
+        assertEquals(4, accountHistory.size());
+        assertEquals(List.of(7, 5, 3, 1), accountHistory.stream().map(t -> t.getAmount().intValue()).toList());
+
+        Long customerId = customerRepository.findByEmail("cursor@test.com").orElseThrow().getId();
+        List<TransactionResponse> customerHistory = readAll(cursor ->
+            transactionService.getTransactionsByCustomerId(customerId, cursor, 2));
+        assertEquals(List.of(7, 6, 5, 4, 3, 2, 1),
+            customerHistory.stream().map(t -> t.getAmount().intValue()).toList());
+    }
+
+    // Bozuk imleç geçersiz istek olarak reddedilmeli
+    @Test
+    void testInvalidCursorIsRejected() {
+        CreateCheckingAccountRequest request = new CreateCheckingAccountRequest();
+        request.setAccountHolderName("Bad Cursor");
+        request.setEmail("bad-cursor@test.com");
+        AccountResponse account = accountService.createCheckingAccount(request);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionService.getTransactionsByAccountId(account.getId(), "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionService.getTransactionsByAccountId(account.getId(), null, 0));
+    }
+
+    private List<TransactionResponse> readAll(Function<String, CursorPage<TransactionResponse>> fetch) {
+        List<TransactionResponse> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<TransactionResponse> page = fetch.apply(cursor);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            assertEquals(page.isHasMore(), cursor != null);
+        } while (cursor != null);
+        return all;
+    }
+}
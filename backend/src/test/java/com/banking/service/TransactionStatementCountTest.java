@@ -0,0 +1,126 @@
+package com.banking.service;
+
+import com.banking.dto.AccountResponse;
+import com.banking.dto.CreateCheckingAccountRequest;
+import com.banking.dto.CreateSavingsAccountRequest;
+import com.banking.dto.DepositRequest;
+import com.banking.dto.MonthlyReportResponse;
+import com.banking.dto.TransactionResponse;
+import com.banking.repository.CustomerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Counts the JDBC statements each read request prepares, so a lazy association that starts
+// loading row by row (N+1) fails here instead of showing up as a slow endpoint
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Transaction Statement Count Tests")
+class TransactionStatementCountTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long customerId;
+    private AccountResponse checking;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        String email = testInfo.getTestMethod().orElseThrow().getName() + "@test.com";
+        CreateCheckingAccountRequest checkingRequest = new CreateCheckingAccountRequest();
+        checkingRequest.setAccountHolderName("Count Holder");
+        checkingRequest.setEmail(email);
+        checking = accountService.createCheckingAccount(checkingRequest);
+
+        for (int i = 0; i < 3; i++) {
+            CreateSavingsAccountRequest savingsRequest = new CreateSavingsAccountRequest();
+            savingsRequest.setAccountHolderName("Count Holder");
+            savingsRequest.setEmail(email);
+            AccountResponse savings = accountService.createSavingsAccount(savingsRequest);
+            deposit(savings.getId(), "10.00");
+        }
+        for (int i = 0; i < 3; i++) {
+            deposit(checking.getId(), "25.00");
+        }
+        customerId = customerRepository.findByEmail(email).orElseThrow().getId();
+    }
+
+    // Müşterinin tüm hesaplarındaki işlemler hesap sayısından bağımsız olarak tek sorguyla okunmalı
+    @Test
+    void testCustomerHistoryIsReadInOneStatement() {
+        List<TransactionResponse> history = countStatements(1,
+            () -> transactionService.getTransactionsByCustomerId(customerId));
+        assertEquals(6, history.size());
+        assertTrue(history.stream().allMatch(t -> t.getAccountNumber() != null));
+
+        countStatements(2, () -> transactionService.getTransactionsByCustomerId(customerId, null, 4));
+    }
+
+    // Hesap bazlı listeler: hesap kontrolü + tek işlem sorgusu
+    @Test
+    void testAccountQueriesUseFixedStatementCount() {
+        YearMonth month = YearMonth.now();
+        countStatements(2, () -> transactionService.getTransactionsByAccountId(checking.getId()));
+        countStatements(2, () -> transactionService.getTransactionsByAccountId(checking.getId(), null, 2));
+        countStatements(2, () -> transactionService.getMonthlyTransactions(
+            checking.getId(), month.getYear(), month.getMonthValue()));
+
+        MonthlyReportResponse report = countStatements(2, () -> reportService.generateMonthlyReport(
+            checking.getId(), month.getYear(), month.getMonthValue()));
+        assertEquals(3, report.getTransactionCount());
+
+        String reference = report.getTransactions().get(0).getReferenceNumber();
+        TransactionResponse byReference = countStatements(1,
+            () -> transactionService.getTransactionByReference(reference));
+        assertEquals(checking.getAccountNumber(), byReference.getAccountNumber());
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    private <T> T countStatements(long expected, Supplier<T> request) {
+        statistics.clear();
+        T result = request.get();
+        assertEquals(expected, statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private void deposit(Long accountId, String amount) {
+        DepositRequest deposit = new DepositRequest();
+        deposit.setAmount(new BigDecimal(amount));
+        accountService.deposit(accountId, deposit);
+    }
+}
@@ -0,0 +1,16 @@
+package com.banking.service;
+
+import com.banking.benchmark.BenchmarkTest;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@BenchmarkTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=0")
+@DisplayName("Unbatched Insert Benchmark")
+class UnbatchedInsertBenchmarkTest extends InsertBatchingBenchmark {
+
+    @Override
+    protected String modeName() {
+        return "JDBC batching off";
+    }
+}